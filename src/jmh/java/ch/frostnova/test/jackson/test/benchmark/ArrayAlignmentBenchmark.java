@@ -0,0 +1,85 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.diff.ArrayAlignment;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.Flattening;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link ArrayAlignment} of {@link PropertyDiffService}: diffs a movie with a large cast, with one
+ * actor inserted at the front and one removed in the middle, and a large array of values with the same edits, by
+ * position or aligned (actors by key, values by longest common subsequence). Run with <code>-prof gc</code> for
+ * allocation rates.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ArrayAlignmentBenchmark {
+
+    @Param({"2000"})
+    private int size;
+
+    @Param({"POSITION", "ALIGNED"})
+    private String alignment;
+
+    private PropertyDiffService propertyDiffService;
+    private Movie before;
+    private Movie after;
+    private List<String> beforeValues;
+    private List<String> afterValues;
+
+    @Setup
+    public void setup() {
+        var arrayAlignment = alignment.equals("ALIGNED")
+                ? ArrayAlignment.LCS.withKey("actors", "firstName", "lastName", "dateOfBirth")
+                : ArrayAlignment.POSITION;
+        propertyDiffService = new PropertyDiffService(ObjectMappers.json(), Flattening.STREAMING, arrayAlignment);
+
+        before = PropertyDiffBenchmark.movie(size);
+        after = PropertyDiffBenchmark.movie(size);
+        after.getActors().add(0, new Actor("Inserted", "Actor", LocalDate.of(1970, 1, 1)));
+        after.getActors().remove(size / 2);
+
+        beforeValues = new ArrayList<>();
+        for (var i = 0; i < size; i++) {
+            beforeValues.add("value" + i);
+        }
+        afterValues = new ArrayList<>(beforeValues);
+        afterValues.add(0, "inserted");
+        afterValues.remove(size / 2);
+    }
+
+    @Benchmark
+    public List<PropertyDiffService.PropertyDiff> diffActors() {
+        return propertyDiffService.diff(before, after);
+    }
+
+    @Benchmark
+    public List<PropertyDiffService.PropertyDiff> diffValues() {
+        return propertyDiffService.diff(beforeValues, afterValues);
+    }
+}
@@ -0,0 +1,88 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.DiffPair;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.ResultOrder;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+
+/**
+ * Benchmark of the bulk diff of {@link PropertyDiffService}: diffs a batch of movie pairs on a fork-join pool with
+ * the given parallelism, with each {@link ResultOrder}, reported per pair. Compare the throughput at 1, 2, 4 and 8
+ * threads (on a machine with at least as many cores) to see the scaling.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BulkDiffBenchmark {
+
+    private static final int PAIRS = 256;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param
+    private ResultOrder order;
+
+    private PropertyDiffService propertyDiffService;
+    private ForkJoinPool executor;
+    private List<DiffPair<Movie>> pairs;
+
+    @Setup
+    public void setup() {
+        propertyDiffService = new PropertyDiffService(ObjectMappers.json());
+        executor = new ForkJoinPool(threads);
+        pairs = new ArrayList<>();
+        for (var i = 0; i < PAIRS; i++) {
+            var before = PropertyDiffBenchmark.movie(50);
+            var after = PropertyDiffBenchmark.movie(50);
+            after.setTitle("Changed " + i);
+            after.getActors().set(i % 50, new Actor("Changed", "Actor", LocalDate.of(1970, 1, 1)));
+            pairs.add(new DiffPair<>(before, after));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+        unchecked(() -> executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public long diffAll() {
+        var differences = new LongAdder();
+        propertyDiffService.diffAll(pairs.iterator(), executor, threads * 4, order,
+                (index, pair, diffs) -> differences.add(diffs.size()));
+        return differences.sum();
+    }
+}
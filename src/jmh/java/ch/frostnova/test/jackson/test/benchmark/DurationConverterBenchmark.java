@@ -0,0 +1,64 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.RegexDurationFormat;
+import ch.frostnova.test.jackson.test.util.converter.DurationConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the hand-written {@link DurationConverter} parser and formatter against the original regular
+ * expression implementation ({@link RegexDurationFormat}). Run with <code>-prof gc</code> for allocation rates.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class DurationConverterBenchmark {
+
+    @Param({"1w 2d 3h 4m 5s", "3h25m45s", "0s"})
+    private String formatted;
+
+    private Duration duration;
+
+    @Setup
+    public void setup() {
+        duration = DurationConverter.parse(formatted);
+    }
+
+    @Benchmark
+    public Duration parse() {
+        return DurationConverter.parse(formatted);
+    }
+
+    @Benchmark
+    public Duration parseRegex() {
+        return RegexDurationFormat.parse(formatted);
+    }
+
+    @Benchmark
+    public String format() {
+        return DurationConverter.format(duration);
+    }
+
+    @Benchmark
+    public String formatRegex() {
+        return RegexDurationFormat.format(duration);
+    }
+}
@@ -0,0 +1,66 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.TreeMetadataDeserializer;
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.converter.MetadataConverter;
+import ch.frostnova.test.jackson.test.util.domain.Metadata;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the streaming {@link MetadataConverter.Deserializer} against the original tree-based deserializer
+ * ({@link TreeMetadataDeserializer}), for JSON metadata with a given number of entries. Run with <code>-prof gc</code>
+ * for allocation rates.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MetadataDeserializerBenchmark {
+
+    @Param({"10", "500"})
+    private int entries;
+
+    private byte[] json;
+    private ObjectReader streamingReader;
+    private ObjectReader treeReader;
+
+    @Setup
+    public void setup() throws IOException {
+        var metadata = new Metadata();
+        for (var i = 0; i < entries; i++) {
+            metadata.set("key-" + i, "value " + i);
+        }
+        json = ObjectMappers.json().writeValueAsBytes(metadata);
+        streamingReader = ObjectMappers.json().readerFor(Metadata.class);
+        treeReader = TreeMetadataDeserializer.use(ObjectMappers.json()).readerFor(Metadata.class);
+    }
+
+    @Benchmark
+    public Metadata streaming() throws IOException {
+        return streamingReader.readValue(json);
+    }
+
+    @Benchmark
+    public Metadata tree() throws IOException {
+        return treeReader.readValue(json);
+    }
+}
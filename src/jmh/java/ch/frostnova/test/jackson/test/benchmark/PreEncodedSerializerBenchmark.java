@@ -0,0 +1,74 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.PlainValueSerializers;
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of writing pre-encoded {@link Genre} and {@link AspectRatio} values against the
+ * {@link PlainValueSerializers plain serializers} (converted and encoded on every call), for 1000 values each.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PreEncodedSerializerBenchmark {
+
+    @Param({"JSON", "CBOR"})
+    private String format;
+
+    private Values values;
+    private ObjectWriter preEncodedWriter;
+    private ObjectWriter plainWriter;
+
+    @Setup
+    public void setup() {
+        var genres = new ArrayList<Genre>();
+        var ratios = new ArrayList<AspectRatio>();
+        var knownRatios = List.of(AspectRatio.valueOf("16:9"), AspectRatio.valueOf("2.39:1"), AspectRatio.valueOf("4:3"));
+        for (var i = 0; i < 1000; i++) {
+            genres.add(Genre.values()[i % Genre.values().length]);
+            ratios.add(knownRatios.get(i % knownRatios.size()));
+        }
+        values = new Values(genres, ratios);
+        var mapper = format.equals("CBOR") ? ObjectMappers.cbor(ObjectMappers.Profile.WIRE) : ObjectMappers.json(ObjectMappers.Profile.WIRE);
+        preEncodedWriter = mapper.writerFor(Values.class);
+        plainWriter = PlainValueSerializers.use(mapper).writerFor(Values.class);
+    }
+
+    @Benchmark
+    public byte[] preEncoded() throws JsonProcessingException {
+        return preEncodedWriter.writeValueAsBytes(values);
+    }
+
+    @Benchmark
+    public byte[] plain() throws JsonProcessingException {
+        return plainWriter.writeValueAsBytes(values);
+    }
+
+    public record Values(List<Genre> genres, List<AspectRatio> ratios) {
+    }
+}
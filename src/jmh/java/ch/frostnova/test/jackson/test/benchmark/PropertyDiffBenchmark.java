@@ -0,0 +1,86 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.diff.DiffBaseline;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.Flattening;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link PropertyDiffService}: flattening and diffing a movie with a given number of actors, with
+ * each {@link Flattening}, and diffing against a {@link DiffBaseline} of the movie before. Run with
+ * <code>-prof gc</code> for allocation rates.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PropertyDiffBenchmark {
+
+    @Param({"3", "2000"})
+    private int actors;
+
+    @Param
+    private Flattening flattening;
+
+    private PropertyDiffService propertyDiffService;
+    private Movie before;
+    private Movie after;
+    private DiffBaseline<Movie> baseline;
+
+    @Setup
+    public void setup() {
+        propertyDiffService = new PropertyDiffService(ObjectMappers.json(), flattening);
+        before = movie(actors);
+        after = movie(actors);
+        after.setTitle("Changed");
+        after.getActors().set(actors / 2, new Actor("Changed", "Actor", LocalDate.of(1970, 1, 1)));
+        baseline = propertyDiffService.baseline(before);
+    }
+
+    @Benchmark
+    public Map<String, String> listPropertyPaths() {
+        return propertyDiffService.listPropertyPaths(before);
+    }
+
+    @Benchmark
+    public List<PropertyDiffService.PropertyDiff> diff() {
+        return propertyDiffService.diff(before, after);
+    }
+
+    @Benchmark
+    public List<PropertyDiffService.PropertyDiff> diffBaseline() {
+        return baseline.diff(after);
+    }
+
+    static Movie movie(int actors) {
+        var movie = Movie.create();
+        movie.getActors().clear();
+        for (var i = 0; i < actors; i++) {
+            movie.getActors().add(new Actor("First" + i, "Last" + i, LocalDate.of(1950, 1, 1).plusDays(i)));
+        }
+        return movie;
+    }
+}
@@ -0,0 +1,78 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization benchmark for all {@link Serializer} implementations: serialize, deserialize and round trip of a
+ * {@link Movie}, including the direct {@link ByteBuffer} overloads. Reports throughput and sample time percentiles, run with <code>-prof gc</code> for allocation rates.
+ *
+ * @author pwalser
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializerBenchmark {
+
+    @Param
+    private SerializerType type;
+
+    private Serializer<Movie> serializer;
+    private Movie movie;
+    private byte[] serialized;
+    private ByteBuffer directBuffer;
+    private ByteBuffer directSerialized;
+
+    @Setup
+    public void setup() {
+        serializer = type.create();
+        movie = Movie.create();
+        serialized = serializer.serialize(movie);
+        directBuffer = ByteBuffer.allocateDirect(64 * 1024);
+        directSerialized = ByteBuffer.allocateDirect(serialized.length).put(serialized).flip();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(movie);
+    }
+
+    @Benchmark
+    public Movie deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeToDirectBuffer() {
+        serializer.serialize(movie, directBuffer.clear());
+        return directBuffer;
+    }
+
+    @Benchmark
+    public Movie deserializeFromDirectBuffer() {
+        return serializer.deserialize(directSerialized.position(0));
+    }
+
+    @Benchmark
+    public Movie roundTrip() {
+        return serializer.deserialize(serializer.serialize(movie));
+    }
+}
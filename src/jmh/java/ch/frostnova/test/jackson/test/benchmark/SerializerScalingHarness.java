@@ -0,0 +1,212 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.Serializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+
+/**
+ * Scaling harness for all {@link Serializer} implementations: runs round trips (serialize + deserialize) of a
+ * {@link Movie} on one shared serializer instance with 1, 2, 4 ... N platform threads and on virtual threads (when the
+ * runtime supports them), and reports the throughput per thread relative to the single-threaded run.
+ * <p>
+ * Every round trip is verified against the single-threaded reference: serialized bytes must be identical and the
+ * parsed movie must have the same content. Implementations producing corrupt output under load are flagged as
+ * <code>CORRUPT</code>, implementations whose throughput per thread at N threads drops below the scaling threshold
+ * as <code>NO SCALING</code>.
+ * <p>
+ * Run with <code>mvn -Pjmh -DskipTests verify -Djmh.skip=true -Dscaling.skip=false [-Dscaling.args="JSON HESSIAN"]</code>,
+ * system properties are passed with <code>-Dscaling.jvmArgs="-Dscaling.threads=8"</code>:
+ * <code>scaling.threads</code> (N, default: available processors), <code>scaling.duration</code>
+ * (measurement time per run in ms, default 1000), <code>scaling.threshold</code> (minimal scaling efficiency,
+ * default 0.5).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class SerializerScalingHarness {
+
+    private static final int MAX_THREADS = Integer.getInteger("scaling.threads", Runtime.getRuntime().availableProcessors());
+    private static final long DURATION_MS = Long.getLong("scaling.duration", 1000);
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("scaling.threshold", "0.5"));
+
+    private SerializerScalingHarness() {
+
+    }
+
+    public static void main(String[] args) {
+        var types = args.length > 0
+                ? Arrays.stream(args).map(SerializerType::valueOf).toList()
+                : List.of(SerializerType.values());
+
+        var virtualThreads = virtualThreadExecutor();
+        System.out.printf("Threads: 1..%d, %d ms per run, virtual threads: %s%n%n", MAX_THREADS, DURATION_MS,
+                virtualThreads.isPresent() ? "yes" : "not supported by this runtime");
+        System.out.printf("%-20s %8s %14s %14s %10s %8s%n", "Serializer", "Threads", "ops/s", "ops/s/thread", "Scaling", "Errors");
+
+        var flagged = new ArrayList<String>();
+        for (var type : types) {
+            var runner = new Runner(type.create());
+            runner.run(() -> Executors.newFixedThreadPool(1), 1); // warmup
+
+            Result baseline = null;
+            Result last = null;
+            long errors = 0;
+            for (var threads : threadCounts()) {
+                int n = threads;
+                last = runner.run(() -> Executors.newFixedThreadPool(n), n);
+                baseline = baseline != null ? baseline : last;
+                errors += last.errors();
+                print(type.name(), Integer.toString(n), last, baseline);
+            }
+            var virtual = virtualThreads.map(executor -> runner.run(executor, MAX_THREADS)).orElse(null);
+            if (virtual != null) {
+                print(type.name(), MAX_THREADS + "v", virtual, baseline);
+                errors += virtual.errors();
+            }
+
+            if (errors > 0) {
+                flagged.add(type.name() + ": CORRUPT (" + errors + " corrupt round trips)");
+            }
+            if (MAX_THREADS > 1 && last.perThread() / baseline.perThread() < THRESHOLD) {
+                flagged.add(String.format("%s: NO SCALING (%.2f at %d threads)", type.name(), last.perThread() / baseline.perThread(), MAX_THREADS));
+            }
+        }
+
+        System.out.println();
+        if (flagged.isEmpty()) {
+            System.out.println("All serializers scale and produce correct output under load.");
+        } else {
+            flagged.forEach(System.out::println);
+        }
+    }
+
+    private static List<Integer> threadCounts() {
+        var counts = new ArrayList<Integer>();
+        for (int n = 1; n < MAX_THREADS; n <<= 1) {
+            counts.add(n);
+        }
+        counts.add(MAX_THREADS);
+        return counts;
+    }
+
+    private static void print(String name, String threads, Result result, Result baseline) {
+        System.out.printf("%-20s %8s %14.0f %14.0f %10.2f %8d%n", name, threads, result.opsPerSecond(),
+                result.perThread(), result.perThread() / baseline.perThread(), result.errors());
+    }
+
+    /**
+     * Virtual thread executor, looked up reflectively as it requires Java 21+.
+     */
+    private static Optional<Supplier<ExecutorService>> virtualThreadExecutor() {
+        try {
+            var factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of(() -> unchecked(() -> (ExecutorService) factory.invoke(null)));
+        } catch (NoSuchMethodException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private record Result(int threads, long operations, long errors, long nanos) {
+
+        double opsPerSecond() {
+            return operations * 1e9 / nanos;
+        }
+
+        double perThread() {
+            return opsPerSecond() / threads;
+        }
+    }
+
+    /**
+     * Runs round trips on one shared serializer and verifies them against the single-threaded reference.
+     */
+    private static class Runner {
+
+        private final Serializer<Movie> serializer;
+        private final Movie movie;
+        private final byte[] expected;
+
+        Runner(Serializer<Movie> serializer) {
+            this.serializer = serializer;
+            this.movie = Movie.create();
+            this.expected = serializer.serialize(movie);
+        }
+
+        Result run(Supplier<ExecutorService> executorFactory, int threads) {
+            var executor = executorFactory.get();
+            try {
+                var ready = new CountDownLatch(threads);
+                var start = new CountDownLatch(1);
+                var stop = new AtomicBoolean();
+                var errors = new AtomicLong();
+                var futures = new ArrayList<Future<Long>>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        ready.countDown();
+                        start.await();
+                        long operations = 0;
+                        while (!stop.get()) {
+                            if (!roundTrip()) {
+                                errors.incrementAndGet();
+                            }
+                            operations++;
+                        }
+                        return operations;
+                    }));
+                }
+                unchecked(() -> ready.await());
+                var begin = System.nanoTime();
+                start.countDown();
+                unchecked(() -> Thread.sleep(DURATION_MS));
+                stop.set(true);
+                long operations = 0;
+                for (var future : futures) {
+                    operations += unchecked(() -> future.get());
+                }
+                return new Result(threads, operations, errors.get(), System.nanoTime() - begin);
+            } finally {
+                executor.shutdownNow();
+                unchecked(() -> executor.awaitTermination(10, TimeUnit.SECONDS));
+            }
+        }
+
+        private boolean roundTrip() {
+            try {
+                var serialized = serializer.serialize(movie);
+                var parsed = serializer.deserialize(serialized);
+                return Arrays.equals(serialized, expected) && sameContent(movie, parsed);
+            } catch (RuntimeException ex) {
+                return false;
+            }
+        }
+
+        private static boolean sameContent(Movie original, Movie parsed) {
+            return Objects.equals(parsed.getTitle(), original.getTitle())
+                    && Objects.equals(parsed.getYear(), original.getYear())
+                    && Objects.equals(parsed.getSynopsis(), original.getSynopsis())
+                    && Objects.equals(parsed.getCreated(), original.getCreated())
+                    && Objects.equals(parsed.getAspectRatio(), original.getAspectRatio())
+                    && Objects.equals(parsed.getGenres(), original.getGenres())
+                    && Objects.equals(parsed.getRatings(), original.getRatings())
+                    && Objects.equals(parsed.getActors(), original.getActors())
+                    && Objects.equals(parsed.getMetadata().getKeys(), original.getMetadata().getKeys())
+                    && original.getMetadata().getKeys().stream()
+                    .allMatch(key -> Objects.equals(parsed.getMetadata().get(key), original.getMetadata().get(key)));
+        }
+    }
+}
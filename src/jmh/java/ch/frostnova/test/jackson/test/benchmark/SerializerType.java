@@ -0,0 +1,57 @@
+package ch.frostnova.test.jackson.test.benchmark;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.HessianSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.JacksonSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.JavaClassicSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufCodecSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.Serializer;
+
+import java.util.function.Supplier;
+
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Profile.ACCELERATED;
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Profile.WIRE;
+
+/**
+ * All {@link Serializer} implementations under benchmark, used as JMH <code>@Param</code> values.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public enum SerializerType {
+
+    JSON(() -> new JacksonSerializer<>(ObjectMappers.json(), Movie.class)),
+    JSON_ACCELERATED(() -> new JacksonSerializer<>(ObjectMappers.json(ACCELERATED), Movie.class)),
+    JSON_WIRE(() -> new JacksonSerializer<>(ObjectMappers.json(WIRE), Movie.class)),
+    JSON_WIRE_ACCELERATED(() -> new JacksonSerializer<>(ObjectMappers.json(WIRE, ACCELERATED), Movie.class)),
+    YAML(() -> new JacksonSerializer<>(ObjectMappers.yaml(), Movie.class)),
+    YAML_ACCELERATED(() -> new JacksonSerializer<>(ObjectMappers.yaml(ACCELERATED), Movie.class)),
+    XML(() -> new JacksonSerializer<>(ObjectMappers.xml(), Movie.class)),
+    XML_ACCELERATED(() -> new JacksonSerializer<>(ObjectMappers.xml(ACCELERATED), Movie.class)),
+    XML_WIRE(() -> new JacksonSerializer<>(ObjectMappers.xml(WIRE), Movie.class)),
+    CBOR(() -> new JacksonSerializer<>(ObjectMappers.cbor(), Movie.class)),
+    CBOR_ACCELERATED(() -> new JacksonSerializer<>(ObjectMappers.cbor(ACCELERATED), Movie.class)),
+    CBOR_WIRE(() -> new JacksonSerializer<>(ObjectMappers.cbor(WIRE), Movie.class)),
+    SMILE(() -> new JacksonSerializer<>(ObjectMappers.smile(), Movie.class)),
+    AVRO(() -> new JacksonSerializer<>(ObjectMappers.avro(), Movie.class, ObjectMappers.avroSchema(Movie.class))),
+    ION(() -> new JacksonSerializer<>(ObjectMappers.ion(), Movie.class)),
+    PROPERTIES(() -> new JacksonSerializer<>(ObjectMappers.properties(), Movie.class)),
+    PROTOBUF(MovieProtobufSerializer::new),
+    PROTOBUF_CODEC(MovieProtobufCodecSerializer::new),
+    HESSIAN(() -> new HessianSerializer<>(Movie.class)),
+    HESSIAN_POOLED(() -> new HessianSerializer<>(Movie.class, true)),
+    JAVA_CLASSIC(() -> new JavaClassicSerializer<>(Movie.class)),
+    JAVA_CLASSIC_POOLED(() -> new JavaClassicSerializer<>(Movie.class, true));
+
+    private final Supplier<Serializer<Movie>> factory;
+
+    SerializerType(Supplier<Serializer<Movie>> factory) {
+        this.factory = factory;
+    }
+
+    public Serializer<Movie> create() {
+        return factory.get();
+    }
+}
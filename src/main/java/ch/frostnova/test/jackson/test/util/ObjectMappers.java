@@ -1,31 +1,48 @@
 package ch.frostnova.test.jackson.test.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.dataformat.avro.AvroMapper;
+import com.fasterxml.jackson.dataformat.avro.AvroSchema;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.ion.IonFactory;
+import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
 import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.AVRO;
 import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.CBOR;
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.ION;
 import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.JSON;
 import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.PROPERTIES;
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.SMILE;
 import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.XML;
 import static ch.frostnova.test.jackson.test.util.ObjectMappers.Type.YAML;
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
 import static com.fasterxml.jackson.databind.DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT;
 import static com.fasterxml.jackson.databind.DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY;
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static com.fasterxml.jackson.databind.MapperFeature.ALLOW_EXPLICIT_PROPERTY_RENAMING;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED;
+import static com.fasterxml.jackson.dataformat.smile.SmileGenerator.Feature.CHECK_SHARED_NAMES;
+import static com.fasterxml.jackson.dataformat.smile.SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES;
 import static com.fasterxml.jackson.dataformat.yaml.YAMLGenerator.Feature.MINIMIZE_QUOTES;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Lazy-created object mappers for various serialization formats.
@@ -40,56 +57,198 @@ public final class ObjectMappers {
         YAML, //  Yet Another Markup Language
         XML, //  eXtensible Markup Language
         PROPERTIES, // Java Properties format
-        CBOR // Concise Binary Object Representation (https://www.rfc-editor.org/info/rfc7049)
+        CBOR, // Concise Binary Object Representation (https://www.rfc-editor.org/info/rfc7049)
+        SMILE, // binary JSON with shared property name and string value back-references (https://github.com/FasterXML/smile-format-specification)
+        AVRO, // Apache Avro binary encoding, schema-based (https://avro.apache.org/)
+        ION // Amazon Ion binary encoding (https://amazon-ion.github.io/ion-docs/)
     }
 
-    private static final Map<Type, ObjectMapper> objectMappers = new ConcurrentHashMap<>();
+    /**
+     * Mapper profiles, adding configuration on top of the {@link #configure(ObjectMapper) common configuration}.
+     * Profiles can be combined (such as <code>json(WIRE, ACCELERATED)</code> for compact output with generated
+     * property accessors), each combination has its own mapper.
+     */
+    public enum Profile {
+        DEFAULT, // pretty-printed, reflection-based property access (common configuration only, no-op when combined)
+        ACCELERATED, // generated property accessors (Blackbird module, LambdaMetafactory-based), same output
+        WIRE // compact output without indentation, for production traffic
+    }
+
+    private record Key(Type type, Set<Profile> profiles) {
+
+        Key(Type type, Profile... profiles) {
+            this(type, ObjectMappers.profiles(profiles));
+        }
+    }
+
+    private static final Map<Key, ObjectMapper> objectMappers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, AvroSchema> avroSchemas = new ConcurrentHashMap<>();
 
     private ObjectMappers() {
 
     }
 
     public static ObjectMapper json() {
-        return objectMappers.computeIfAbsent(JSON, type -> {
+        return json(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper json(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(JSON, profiles), key -> {
             var mapper = new ObjectMapper();
             mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-            return configure(mapper);
+            return configure(mapper, key.profiles());
         });
     }
 
     public static ObjectMapper yaml() {
-        return objectMappers.computeIfAbsent(YAML, type -> {
+        return yaml(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper yaml(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(YAML, profiles), key -> {
             var mapper = new ObjectMapper(new YAMLFactory().enable(MINIMIZE_QUOTES));
             mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-            return configure(mapper);
+            return configure(mapper, key.profiles());
         });
     }
 
     public static ObjectMapper xml() {
-        return objectMappers.computeIfAbsent(XML, type -> {
+        return xml(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper xml(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(XML, profiles), key -> {
             var xmlModule = new JacksonXmlModule();
             xmlModule.setDefaultUseWrapper(false);
             var mapper = new XmlMapper(xmlModule);
-            return configure(mapper);
+            return configure(mapper, key.profiles());
         });
     }
 
     public static ObjectMapper cbor() {
-        return objectMappers.computeIfAbsent(CBOR, type -> {
+        return cbor(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper cbor(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(CBOR, profiles), key -> {
             var mapper = new ObjectMapper(new CBORFactory());
             mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-            return configure(mapper);
+            return configure(mapper, key.profiles());
+        });
+    }
+
+    public static ObjectMapper smile() {
+        return smile(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper smile(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(SMILE, profiles), key -> {
+            var factory = SmileFactory.builder()
+                    .enable(CHECK_SHARED_NAMES)
+                    .enable(CHECK_SHARED_STRING_VALUES)
+                    .build();
+            var mapper = new ObjectMapper(factory);
+            mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
+            return configure(mapper, key.profiles());
+        });
+    }
+
+    /**
+     * Avro mapper. Avro is schema-based: use a {@link #avroSchema(Class) schema} for reading and writing. Property names
+     * which are not valid Avro names (such as <code>aspect-ratio</code>) are mapped to underscores.
+     *
+     * @return avro mapper
+     */
+    public static ObjectMapper avro() {
+        return avro(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper avro(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(AVRO, profiles), key -> {
+            var mapper = AvroMapper.builder()
+                    .enable(ALLOW_EXPLICIT_PROPERTY_RENAMING)
+                    .propertyNamingStrategy(new AvroNamingStrategy())
+                    .build();
+            return configure(mapper, key.profiles());
+        });
+    }
+
+    /**
+     * Avro schema for a type, generated from its serializers.
+     *
+     * @param type type, required
+     * @return avro schema
+     */
+    public static AvroSchema avroSchema(Class<?> type) {
+        return avroSchemas.computeIfAbsent(type, t -> unchecked(() -> ((AvroMapper) avro()).schemaFor(t)));
+    }
+
+    public static ObjectMapper ion() {
+        return ion(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper ion(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(ION, profiles), key -> {
+            var mapper = new IonObjectMapper(IonFactory.builderForBinaryWriters().build());
+            mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
+            return configure(mapper, key.profiles());
         });
     }
 
     public static ObjectMapper properties() {
-        return objectMappers.computeIfAbsent(PROPERTIES, type -> {
+        return properties(Profile.DEFAULT);
+    }
+
+    public static ObjectMapper properties(Profile... profiles) {
+        return objectMappers.computeIfAbsent(new Key(PROPERTIES, profiles), key -> {
             ObjectMapper mapper = new JavaPropsMapper();
             mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector());
-            return configure(mapper);
+            return configure(mapper, key.profiles());
         });
     }
 
+    public static ObjectMapper configure(ObjectMapper mapper, Profile... profiles) {
+        return configure(mapper, profiles(profiles));
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper, Set<Profile> profiles) {
+        configure(mapper);
+        if (profiles.contains(Profile.ACCELERATED)) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        if (profiles.contains(Profile.WIRE)) {
+            mapper.disable(INDENT_OUTPUT);
+        }
+        return mapper;
+    }
+
+    private static Set<Profile> profiles(Profile... profiles) {
+        var result = EnumSet.noneOf(Profile.class);
+        for (var profile : profiles) {
+            result.add(requireNonNull(profile, "profile is required"));
+        }
+        result.remove(Profile.DEFAULT);
+        return result;
+    }
+
+    /**
+     * Maps property names to valid Avro names (letters, digits and underscores).
+     */
+    private static class AvroNamingStrategy extends PropertyNamingStrategies.NamingBase {
+
+        @Override
+        public String translate(String propertyName) {
+            var name = new StringBuilder(propertyName);
+            for (var i = 0; i < name.length(); i++) {
+                var c = name.charAt(i);
+                if (!(c == '_' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (i > 0 && c >= '0' && c <= '9'))) {
+                    name.setCharAt(i, '_');
+                }
+            }
+            return name.toString();
+        }
+    }
+
     public static ObjectMapper configure(ObjectMapper mapper) {
         return mapper
                 .registerModule(new JavaTimeModule())
@@ -3,20 +3,15 @@ package ch.frostnova.test.jackson.test.util.converter;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Optional;
-import java.util.function.BinaryOperator;
-import java.util.regex.Pattern;
-
-import static java.lang.String.join;
-import static java.util.stream.Collectors.joining;
 
 /**
  * JSON converter for {@link Duration}
@@ -27,33 +22,68 @@ import static java.util.stream.Collectors.joining;
 
 public final class DurationConverter {
 
-    private static final BinaryOperator<String> TOKEN_PATTERN = (name, unit) -> String.format("(?:(?<%s>\\d+)\\s*%s)?", name, unit);
-
-    private static final Pattern PATTERN = Pattern.compile("^\\s*" + join("\\s*",
-            TOKEN_PATTERN.apply("weeks", "w"),
-            TOKEN_PATTERN.apply("days", "d"),
-            TOKEN_PATTERN.apply("hours", "h"),
-            TOKEN_PATTERN.apply("minutes", "m"),
-            TOKEN_PATTERN.apply("seconds", "s")
-    ) + "\\s*$");
+    private static final String UNITS = "wdhms";
 
-    private static Duration parse(String value) {
+    /**
+     * Parse a duration in the <code>1w 2d 3h 4m 5s</code> format: units in this order, each optional but at most once,
+     * whitespace allowed between numbers, units and tokens. Single pass, without regular expressions.
+     *
+     * @param value formatted duration
+     * @return duration (zero if the value is null or blank)
+     * @throws IllegalArgumentException if the format is invalid
+     */
+    public static Duration parse(String value) {
         if (value == null || value.isBlank()) {
             return Duration.ofSeconds(0);
         }
-        var matcher = PATTERN.matcher(value);
-        if (!matcher.matches()) {
-            throw new IllegalArgumentException(String.format("Illegal duration format '%s', expected '1w2d3h4m5s' or '1w 2d 3h 4m 5s' format (w=weeks,d=days,h=hours,m=minutes,s=seconds)", value));
+        var length = value.length();
+        var nextUnit = 0;
+        var overflowStart = -1;
+        var overflowEnd = -1;
+        int weeks = 0, days = 0, hours = 0, minutes = 0, seconds = 0;
+        var pos = skipWhitespace(value, 0);
+        while (pos < length) {
+            var start = pos;
+            long amount = 0;
+            while (pos < length && isDigit(value.charAt(pos))) {
+                amount = Math.min(amount * 10 + (value.charAt(pos) - '0'), Integer.MAX_VALUE + 1L);
+                pos++;
+            }
+            var end = pos;
+            pos = skipWhitespace(value, pos);
+            var unit = end > start && pos < length ? UNITS.indexOf(value.charAt(pos), nextUnit) : -1;
+            if (unit < 0) {
+                throw illegalFormat(value);
+            }
+            if (amount > Integer.MAX_VALUE && overflowStart < 0) {
+                overflowStart = start;
+                overflowEnd = end;
+            }
+            switch (unit) {
+                case 0 -> weeks = (int) amount;
+                case 1 -> days = (int) amount;
+                case 2 -> hours = (int) amount;
+                case 3 -> minutes = (int) amount;
+                default -> seconds = (int) amount;
+            }
+            nextUnit = unit + 1;
+            pos = skipWhitespace(value, pos + 1);
+        }
+        if (overflowStart >= 0) {
+            // same exception as Integer.parseInt(String)
+            Integer.parseInt(value.substring(overflowStart, overflowEnd));
         }
-        int weeks = Optional.ofNullable(matcher.group("weeks")).map(Integer::parseInt).orElse(0);
-        int days = Optional.ofNullable(matcher.group("days")).map(Integer::parseInt).orElse(0);
-        int hours = Optional.ofNullable(matcher.group("hours")).map(Integer::parseInt).orElse(0);
-        int minutes = Optional.ofNullable(matcher.group("minutes")).map(Integer::parseInt).orElse(0);
-        int seconds = Optional.ofNullable(matcher.group("seconds")).map(Integer::parseInt).orElse(0);
-        return Duration.ofDays(7 * weeks + days).plus(Duration.ofHours(hours)).plus(Duration.ofMinutes(minutes)).plus(Duration.ofSeconds(seconds));
+        // int arithmetic for weeks and days, as Duration.ofDays(int)
+        return Duration.ofSeconds((7 * weeks + days) * 86400L + hours * 3600L + minutes * 60L + seconds);
     }
 
-    private static String format(Duration duration) {
+    /**
+     * Format a duration in the <code>1w 2d 3h 4m 5s</code> format, omitting zero units (<code>0s</code> for zero).
+     *
+     * @param duration duration
+     * @return formatted duration (<code>0s</code> if the duration is null)
+     */
+    public static String format(Duration duration) {
         if (duration == null) {
             return "0s";
         }
@@ -66,23 +96,52 @@ public final class DurationConverter {
         minutes %= 60;
         hours %= 24;
         days %= 7;
-        List<String> tokens = new LinkedList<>();
-        if (weeks > 0) {
-            tokens.add(weeks + "w");
-        }
-        if (days > 0) {
-            tokens.add(days + "d");
-        }
-        if (hours > 0) {
-            tokens.add(hours + "h");
+        var builder = new StringBuilder(24);
+        appendToken(builder, weeks, 'w');
+        appendToken(builder, days, 'd');
+        appendToken(builder, hours, 'h');
+        appendToken(builder, minutes, 'm');
+        if (seconds > 0 || builder.length() == 0) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(seconds).append('s');
         }
-        if (minutes > 0) {
-            tokens.add(minutes + "m");
+        return builder.toString();
+    }
+
+    private static void appendToken(StringBuilder builder, long amount, char unit) {
+        if (amount > 0) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(amount).append(unit);
         }
-        if (seconds > 0 || tokens.isEmpty()) {
-            tokens.add(seconds + "s");
+    }
+
+    /**
+     * Skip whitespace, as defined by <code>\s</code> in regular expressions (ASCII only).
+     */
+    private static int skipWhitespace(String value, int pos) {
+        while (pos < value.length()) {
+            var c = value.charAt(pos);
+            if (c != ' ' && (c < '\t' || c > '\r')) {
+                break;
+            }
+            pos++;
         }
-        return tokens.stream().collect(joining(" "));
+        return pos;
+    }
+
+    /**
+     * Digit, as defined by <code>\d</code> in regular expressions (ASCII only).
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static IllegalArgumentException illegalFormat(String value) {
+        return new IllegalArgumentException(String.format("Illegal duration format '%s', expected '1w2d3h4m5s' or '1w 2d 3h 4m 5s' format (w=weeks,d=days,h=hours,m=minutes,s=seconds)", value));
     }
 
     public static class Serializer extends JsonSerializer<Duration> {
@@ -95,6 +154,12 @@ public final class DurationConverter {
                 jsonGenerator.writeString(format(duration));
             }
         }
+
+        @Override
+        public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) throws JsonMappingException {
+            // serialized as string (for schema generators, e.g. Avro)
+            visitor.expectStringFormat(type);
+        }
     }
 
     public static class Deserializer extends JsonDeserializer<Duration> {
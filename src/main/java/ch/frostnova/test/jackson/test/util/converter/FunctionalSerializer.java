@@ -1,15 +1,29 @@
 package ch.frostnova.test.jackson.test.util.converter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
  * JSON serializer that uses a converter function to serialize a value to a string when the value is not null (otherwise, <code>null</code> will be
  * serialized).
+ * <p>
+ * For small, closed value sets (such as enums), the converted values can be encoded once up front: they are then
+ * written as {@link SerializableString} (pre-encoded UTF-8 for JSON, CBOR and Smile) instead of being converted and
+ * encoded on every call.
  *
  * @author pwalser
  * @since 25.01.2018
@@ -17,6 +31,7 @@ import java.util.function.Function;
 public abstract class FunctionalSerializer<T> extends JsonSerializer<T> {
 
     private final Function<T, String> converter;
+    private final Map<T, SerializableString> preEncoded;
 
     /**
      * Constructor, expects a converter function.
@@ -24,18 +39,52 @@ public abstract class FunctionalSerializer<T> extends JsonSerializer<T> {
      * @param converter converter
      */
     protected FunctionalSerializer(Function<T, String> converter) {
+        this(converter, List.of());
+    }
+
+    /**
+     * Constructor, expects a converter function and the values to pre-encode. Other values are converted on every call.
+     *
+     * @param converter converter
+     * @param values    values to pre-encode (small, closed value set, e.g. all constants of an enum)
+     */
+    protected FunctionalSerializer(Function<T, String> converter, Collection<? extends T> values) {
         if (converter == null) {
             throw new IllegalArgumentException("converter is required");
         }
+        if (values == null) {
+            throw new IllegalArgumentException("values are required");
+        }
         this.converter = converter;
+        var encoded = new HashMap<T, SerializableString>();
+        for (T value : values) {
+            var string = new SerializedString(converter.apply(value));
+            // encodings are computed lazily: compute them up front (quoted for JSON, unquoted for binary formats)
+            string.asQuotedUTF8();
+            string.asUnquotedUTF8();
+            string.asQuotedChars();
+            encoded.put(value, string);
+        }
+        this.preEncoded = Map.copyOf(encoded);
     }
 
     @Override
     public void serialize(T value, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         if (value == null) {
             jsonGenerator.writeNull();
+            return;
+        }
+        var encoded = preEncoded.get(value);
+        if (encoded != null) {
+            jsonGenerator.writeString(encoded);
         } else {
             jsonGenerator.writeString(converter.apply(value));
         }
     }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) throws JsonMappingException {
+        // serialized as plain string (for schema generators, e.g. Avro), even if the value type is an enum
+        visitor.expectStringFormat(TypeFactory.defaultInstance().constructType(String.class));
+    }
 }
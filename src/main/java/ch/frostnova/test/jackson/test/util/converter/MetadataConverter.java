@@ -1,16 +1,23 @@
 package ch.frostnova.test.jackson.test.util.converter;
 
 import ch.frostnova.test.jackson.test.util.domain.Metadata;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadCapability;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 
 import java.io.IOException;
-import java.util.Optional;
 
 /**
  * JSON converter for {@link ch.frostnova.test.jackson.test.util.domain.Metadata}
@@ -31,7 +38,7 @@ public final class MetadataConverter {
                     jsonGenerator.writeFieldName(key);
                     var value = metadata.get(key);
                     if (value.isPresent()) {
-                        jsonGenerator.writeObject(value.get());
+                        jsonGenerator.writeString(value.get());
                     } else {
                         jsonGenerator.writeNull();
                     }
@@ -39,19 +46,80 @@ public final class MetadataConverter {
                 jsonGenerator.writeEndObject();
             }
         }
+
+        @Override
+        public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) throws JsonMappingException {
+            // serialized as map of strings (for schema generators, e.g. Avro)
+            var mapVisitor = visitor.expectMapFormat(type);
+            if (mapVisitor != null) {
+                var provider = visitor.getProvider();
+                var stringType = provider.constructType(String.class);
+                var stringSerializer = provider.findValueSerializer(stringType);
+                mapVisitor.keyFormat(stringSerializer, stringType);
+                mapVisitor.valueFormat(stringSerializer, stringType);
+            }
+        }
     }
 
-    public static class Deserializer extends JsonDeserializer<Metadata> {
+    /**
+     * Streaming deserializer: reads the field name and value tokens directly into {@link Metadata}, without building an
+     * intermediate tree. Values are coerced as {@link JsonNode#asText()} would: strings as they are, other scalars
+     * (numbers, booleans, null) and nested structures through a tree of just that value (e.g. <code>1.50</code> &rarr;
+     * <code>"1.5"</code>, <code>null</code> &rarr; <code>"null"</code>, objects and arrays &rarr; <code>""</code>).
+     * Duplicate keys: the last value wins, except for formats which report duplicates as arrays (XML), where the value
+     * becomes <code>""</code>. The result is {@link Metadata#freeze() frozen} (compact). Keys and values are deduplicated
+     * if the mapper has a {@link StringPoolModule}.
+     */
+    public static class Deserializer extends JsonDeserializer<Metadata> implements ContextualDeserializer {
+
+        private final StringPool pool;
+
+        public Deserializer() {
+            this(null);
+        }
+
+        /**
+         * Constructor
+         *
+         * @param pool string pool for keys and values, optional
+         */
+        public Deserializer(StringPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext deserializationContext, BeanProperty property) throws JsonMappingException {
+            var contextPool = StringPoolModule.pool(deserializationContext);
+            return contextPool != pool ? new Deserializer(contextPool) : this;
+        }
 
         @Override
         public Metadata deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
             var metadata = new Metadata();
-            JsonNode node = jsonParser.getCodec().readTree(jsonParser);
-            node.fieldNames().forEachRemaining(field -> {
-                var value = node.get(field);
-                metadata.set(field, Optional.ofNullable(value).map(JsonNode::asText).orElse(null));
-            });
-            return metadata;
+            var token = jsonParser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = jsonParser.nextToken();
+            } else if (token != JsonToken.FIELD_NAME) {
+                // not an object: no entries (consumes the value)
+                jsonParser.getCodec().readTree(jsonParser);
+                return metadata.freeze();
+            }
+            var duplicatesAsArray = jsonParser.getReadCapabilities().isEnabled(StreamReadCapability.DUPLICATE_PROPERTIES);
+            for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+                var field = jsonParser.currentName();
+                var value = jsonParser.nextToken() == JsonToken.VALUE_STRING
+                        ? jsonParser.getText()
+                        : jsonParser.getCodec().<JsonNode>readTree(jsonParser).asText();
+                if (duplicatesAsArray && metadata.getKeys().contains(field)) {
+                    value = "";
+                }
+                metadata.set(intern(field), intern(value));
+            }
+            return metadata.freeze();
+        }
+
+        private String intern(String value) {
+            return pool != null ? pool.intern(value) : value;
         }
     }
-}
\ No newline at end of file
+}
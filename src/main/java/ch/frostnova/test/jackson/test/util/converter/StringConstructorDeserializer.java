@@ -1,38 +1,77 @@
 package ch.frostnova.test.jackson.test.util.converter;
 
+import ch.frostnova.test.jackson.test.util.util.LruCache;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodType.methodType;
 
 /**
- * Deserializer for value objects (using <code>String</code> constructor: <code>new T(String value)</code>).
+ * Deserializer for value objects (using a <code>public static T valueOf(String value)</code> factory method if
+ * declared, or else the <code>String</code> constructor: <code>new T(String value)</code>).
+ * <p>
+ * The factory or constructor is bound once per type to a generated {@link Function} ({@link LambdaMetafactory}),
+ * shared by all deserializer instances (one per object mapper), so values are created with a plain method call instead
+ * of reflection. For immutable value types, an optional LRU cache maps input strings to instances, see
+ * {@link #getCacheStatistics()}.
  *
  * @author pwalser
  * @since 06.07.2018
  */
 public abstract class StringConstructorDeserializer<T> extends StdDeserializer<T> {
 
-    private final Constructor<T> constructor;
+    private static final ClassValue<Function<String, ?>> factories = new ClassValue<>() {
+        @Override
+        protected Function<String, ?> computeValue(Class<?> type) {
+            return factory(type);
+        }
+    };
+
+    private final Function<String, T> factory;
+    private final LruCache<String, T> cache;
 
     public StringConstructorDeserializer(Class<T> type) {
+        this(type, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type      value type, required
+     * @param cacheSize maximum number of cached instances (by input string), 0 to disable caching. Only for immutable
+     *                  types.
+     */
+    public StringConstructorDeserializer(Class<T> type, int cacheSize) {
         super(type);
         if (type == null) {
             throw new IllegalArgumentException("Type is required");
         }
-        try {
-            constructor = type.getConstructor(String.class);
-            if (!Modifier.isPublic(constructor.getModifiers())) {
-                throw new IllegalArgumentException(type.getName() + " does not have a public string-constructor");
-            }
-            constructor.setAccessible(true);
-        } catch (NoSuchMethodException ex) {
-            throw new IllegalArgumentException(type.getName() + " must have a string constructor");
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
         }
+        @SuppressWarnings("unchecked")
+        var typeFactory = (Function<String, T>) factories.get(type);
+        factory = typeFactory;
+        cache = cacheSize > 0 ? new LruCache<>(cacheSize) : null;
+    }
+
+    /**
+     * Statistics of the value cache (hits, misses, evictions), if caching is enabled.
+     *
+     * @return cache statistics, empty if caching is disabled
+     */
+    public Optional<LruCache.Statistics> getCacheStatistics() {
+        return Optional.ofNullable(cache).map(LruCache::getStatistics);
     }
 
     @Override
@@ -43,9 +82,56 @@ public abstract class StringConstructorDeserializer<T> extends StdDeserializer<T
             return null;
         }
         try {
-            return constructor.newInstance(string);
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException ex) {
-            throw new IOException("Failed to deserialize value '" + string + "' to " + constructor.getDeclaringClass().getName() + ": " + ex.getClass().getSimpleName() + ": " + ex.getMessage());
+            return cache != null ? cache.get(string, factory) : factory.apply(string);
+        } catch (RuntimeException ex) {
+            throw new IOException("Failed to deserialize value '" + string + "' to " + handledType().getName() + ": " + ex.getClass().getSimpleName() + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static <T> Function<String, T> factory(Class<T> type) {
+        var lookup = MethodHandles.lookup();
+        MethodHandle handle;
+        try {
+            var valueOf = valueOfMethod(type);
+            if (valueOf != null) {
+                handle = lookup.unreflect(valueOf);
+            } else {
+                handle = lookup.unreflectConstructor(type.getConstructor(String.class));
+            }
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalArgumentException(type.getName() + " must have a public static valueOf(String) method or a string constructor");
+        } catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException(type.getName() + ": factory is not accessible: " + ex.getMessage());
+        }
+        try {
+            var callSite = LambdaMetafactory.metafactory(lookup, "apply", methodType(Function.class),
+                    methodType(Object.class, Object.class), handle, methodType(type, String.class));
+            @SuppressWarnings("unchecked")
+            var function = (Function<String, T>) callSite.getTarget().invokeExact();
+            return function;
+        } catch (Throwable ex) {
+            // not linkable as lambda (e.g. type not visible from this class loader): invoke the method handle
+            var typedHandle = handle.asType(methodType(Object.class, String.class));
+            return string -> invoke(typedHandle, type, string);
+        }
+    }
+
+    private static <T> T invoke(MethodHandle handle, Class<T> type, String string) {
+        try {
+            return type.cast(handle.invokeExact(string));
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Method valueOfMethod(Class<?> type) {
+        try {
+            var method = type.getMethod("valueOf", String.class);
+            return Modifier.isStatic(method.getModifiers()) && method.getReturnType() == type ? method : null;
+        } catch (NoSuchMethodException ex) {
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package ch.frostnova.test.jackson.test.util.converter;
+
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.LogicalType;
+
+import java.io.IOException;
+
+/**
+ * Jackson module which deduplicates deserialized strings (values and map keys) through a {@link StringPool}. Custom
+ * deserializers which read strings directly from the parser (such as {@link MetadataConverter.Deserializer}) find the
+ * pool with {@link #pool(DeserializationContext)}.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class StringPoolModule extends SimpleModule {
+
+    private final StringPool pool;
+
+    /**
+     * Constructor
+     *
+     * @param pool string pool, required
+     */
+    public StringPoolModule(StringPool pool) {
+        super(StringPoolModule.class.getSimpleName());
+        if (pool == null) {
+            throw new IllegalArgumentException("pool is required");
+        }
+        this.pool = pool;
+        addDeserializer(String.class, new PooledStringDeserializer(pool));
+        addKeyDeserializer(String.class, new PooledKeyDeserializer(pool));
+    }
+
+    public StringPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Find the string pool registered with the mapper of a deserialization context. Intended for contextualization
+     * (the lookup is not free).
+     *
+     * @param context deserialization context, required
+     * @return string pool, or null if the mapper has no {@link StringPoolModule}
+     * @throws JsonMappingException if the string deserializer cannot be resolved
+     */
+    public static StringPool pool(DeserializationContext context) throws JsonMappingException {
+        JsonDeserializer<?> deserializer = context.findRootValueDeserializer(context.constructType(String.class));
+        return deserializer instanceof PooledStringDeserializer pooled ? pooled.pool : null;
+    }
+
+    private static class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+        private final StringPool pool;
+
+        PooledStringDeserializer(StringPool pool) {
+            super(String.class);
+            this.pool = pool;
+        }
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            // other tokens (scalars, embedded objects, coercions) as with the standard deserializer
+            var value = p.hasToken(JsonToken.VALUE_STRING) ? p.getText() : StringDeserializer.instance.deserialize(p, ctxt);
+            return pool.intern(value);
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return "";
+        }
+
+        @Override
+        public LogicalType logicalType() {
+            return LogicalType.Textual;
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+
+    private static class PooledKeyDeserializer extends KeyDeserializer {
+
+        private final StringPool pool;
+
+        PooledKeyDeserializer(StringPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public Object deserializeKey(String key, DeserializationContext ctxt) {
+            return pool.intern(key);
+        }
+    }
+}
@@ -1,29 +1,81 @@
 package ch.frostnova.test.jackson.test.util.converter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Serializer for value objects (using <code>toString()</code>).
+ * <p>
+ * For value types with a small, closed set of string representations, the encoded strings can be cached: they are
+ * then written pre-encoded ({@link SerializableString}, e.g. UTF-8 for JSON, CBOR and Smile). The cache is keyed by the
+ * string representation, and bounded: beyond the maximum size, strings are no longer cached.
  *
  * @author pwalser
  * @since 06.07.2018
  */
-public final class ToStringSerializer extends StdSerializer<Object> {
+public class ToStringSerializer extends StdSerializer<Object> {
+
+    private final int maxCached;
+    private final Map<String, SerializableString> encoded;
 
     public ToStringSerializer() {
+        this(0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param maxCached maximum number of cached encoded strings, 0 to disable caching
+     */
+    public ToStringSerializer(int maxCached) {
         super(Object.class);
+        if (maxCached < 0) {
+            throw new IllegalArgumentException("maxCached must not be negative");
+        }
+        this.maxCached = maxCached;
+        this.encoded = maxCached > 0 ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
     public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
         if (value == null) {
             generator.writeNull();
+            return;
+        }
+        var string = value.toString();
+        var serialized = encoded != null ? encoded(string) : null;
+        if (serialized != null) {
+            generator.writeString(serialized);
         } else {
-            generator.writeString(value.toString());
+            generator.writeString(string);
         }
     }
+
+    /**
+     * Cached encoded string, or null if the cache is full.
+     */
+    private SerializableString encoded(String string) {
+        var cached = encoded.get(string);
+        if (cached == null && encoded.size() < maxCached) {
+            var serialized = new SerializedString(string);
+            var existing = encoded.putIfAbsent(string, serialized);
+            cached = existing != null ? existing : serialized;
+        }
+        return cached;
+    }
+
+    @Override
+    public void acceptJsonFormatVisitor(JsonFormatVisitorWrapper visitor, JavaType type) throws JsonMappingException {
+        visitStringFormat(visitor, type);
+    }
 }
\ No newline at end of file
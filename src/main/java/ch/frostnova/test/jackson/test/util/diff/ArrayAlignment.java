@@ -0,0 +1,107 @@
+package ch.frostnova.test.jackson.test.util.diff;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * How array elements are aligned when diffing, immutable. By default ({@link #POSITION}), elements are compared by
+ * position, so inserting one element at the front of an array changes all following elements.
+ * <ul>
+ *     <li>Keyed arrays ({@link #withKey(String, String...)}): elements are objects with identity properties (such as
+ *     an actor's first name, last name and date of birth), and are matched by the values of these properties,
+ *     regardless of their position. Elements without a match are added or removed.</li>
+ *     <li>Scalar arrays ({@link #LCS}): arrays of values (such as genres) are aligned by their longest common
+ *     subsequence, elements not in the common subsequence are compared by position between the aligned elements,
+ *     the surplus is added or removed.</li>
+ * </ul>
+ * Other arrays are compared by position. Arrays are identified by their property path without element indices (such
+ * as <code>actors</code>, or <code>seasons.episodes</code> for the arrays <code>seasons[i].episodes</code>), key
+ * properties by their serialized names. Changed and added properties of aligned arrays have the paths of the value
+ * after (with its element indices), removed properties those of the value before.
+ * <p>
+ * Aligned arrays are buffered (both versions) while diffing. Alignment applies to all diffs of
+ * {@link PropertyDiffService}: where values are flattened through trees ({@link PropertyDiffService.Flattening#TREE},
+ * other formats than JSON, XML documents), aligned diffs walk the trees in lockstep.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class ArrayAlignment {
+
+    /**
+     * Compare array elements by position.
+     */
+    public static final ArrayAlignment POSITION = new ArrayAlignment(false, Map.of());
+
+    /**
+     * Align arrays of scalar values by their longest common subsequence.
+     */
+    public static final ArrayAlignment LCS = new ArrayAlignment(true, Map.of());
+
+    private final boolean scalarSequences;
+    private final Map<String, List<String>> keys;
+
+    private ArrayAlignment(boolean scalarSequences, Map<String, List<String>> keys) {
+        this.scalarSequences = scalarSequences;
+        this.keys = keys;
+    }
+
+    /**
+     * Alignment with additional identity keys for the elements of an array.
+     *
+     * @param arrayPath     property path of the array, without element indices, required
+     * @param keyProperties names of the key properties of the elements, at least one
+     * @return alignment
+     */
+    public ArrayAlignment withKey(String arrayPath, String... keyProperties) {
+        requireNonNull(arrayPath, "arrayPath is required");
+        requireNonNull(keyProperties, "keyProperties are required");
+        if (keyProperties.length == 0) {
+            throw new IllegalArgumentException("at least one key property is required");
+        }
+        var keyList = List.of(keyProperties);
+        if (keyList.size() != Set.copyOf(keyList).size()) {
+            throw new IllegalArgumentException("duplicate key properties: " + Arrays.toString(keyProperties));
+        }
+        var result = new HashMap<>(keys);
+        result.put(arrayPath, keyList);
+        return new ArrayAlignment(scalarSequences, Map.copyOf(result));
+    }
+
+    /**
+     * Whether all arrays are compared by position (no alignment).
+     *
+     * @return true if positional
+     */
+    boolean isPositional() {
+        return !scalarSequences && keys.isEmpty();
+    }
+
+    boolean alignsScalarSequences() {
+        return scalarSequences;
+    }
+
+    boolean hasKeys() {
+        return !keys.isEmpty();
+    }
+
+    /**
+     * Key properties of the elements of an array.
+     *
+     * @param arrayPath property path of the array, without element indices
+     * @return key properties, or null if the array has no key
+     */
+    List<String> keyProperties(String arrayPath) {
+        return keys.get(arrayPath);
+    }
+
+    @Override
+    public String toString() {
+        return (scalarSequences ? "LCS" : "POSITION") + (keys.isEmpty() ? "" : " " + keys);
+    }
+}
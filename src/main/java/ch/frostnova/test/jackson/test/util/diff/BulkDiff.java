@@ -0,0 +1,149 @@
+package ch.frostnova.test.jackson.test.util.diff;
+
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.DiffPair;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.DiffSink;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.PropertyDiff;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * One bulk diff run: pairs are taken from the iterator on the calling thread and diffed on the executor, with at most
+ * <code>maxInFlight</code> pairs taken but not yet passed to the sink (back-pressure: the iterator is only advanced when
+ * a permit is free). In ordered mode, completed results wait in a window (of <code>maxInFlight</code> slots, indexed by
+ * sequence number) until all previous results were passed to the sink, which is called under a lock, in sequence.
+ * <p>
+ * On the first failure (diff, sink or executor), no further pairs are taken, pending results are dropped, and the
+ * failure is thrown once all pairs in flight are done.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+final class BulkDiff<T> {
+
+    private final PropertyDiffService propertyDiffService;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final DiffSink<T> sink;
+    private final Semaphore permits;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    // ordered mode only: completed results by sequence number modulo maxInFlight, guarded by itself
+    private final Completed<T>[] window;
+    private long nextDelivery;
+
+    @SuppressWarnings("unchecked")
+    BulkDiff(PropertyDiffService propertyDiffService, Executor executor, int maxInFlight, boolean ordered, DiffSink<T> sink) {
+        this.propertyDiffService = propertyDiffService;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.sink = sink;
+        this.permits = new Semaphore(maxInFlight);
+        this.window = ordered ? new Completed[maxInFlight] : null;
+    }
+
+    void run(Iterator<DiffPair<T>> pairs) {
+        try {
+            for (long sequence = 0; ; sequence++) {
+                permits.acquire();
+                var pair = next(pairs);
+                if (pair == null) {
+                    permits.release();
+                    break;
+                }
+                var index = sequence;
+                try {
+                    executor.execute(() -> process(index, pair));
+                } catch (RuntimeException | Error ex) {
+                    // not executed (rejected, or the executor failed): complete the pair without a diff, which
+                    // releases its permit and its slot in the window
+                    fail(ex);
+                    process(index, pair);
+                }
+            }
+            // wait for the pairs in flight
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            fail(ex);
+        } catch (RuntimeException | Error ex) {
+            fail(ex);
+            permits.acquireUninterruptibly(maxInFlight);
+            permits.release(maxInFlight);
+        }
+        var error = failure.get();
+        if (error instanceof RuntimeException ex) {
+            throw ex;
+        }
+        if (error instanceof Error ex) {
+            throw ex;
+        }
+        if (error != null) {
+            throw new RuntimeException("bulk diff was interrupted", error);
+        }
+    }
+
+    /**
+     * Next pair, or null if there are no more pairs or after a failure (called with a permit, released on exceptions).
+     */
+    private DiffPair<T> next(Iterator<DiffPair<T>> pairs) {
+        try {
+            return failure.get() == null && pairs.hasNext() ? requireNonNull(pairs.next(), "pair is required") : null;
+        } catch (RuntimeException | Error ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    private void process(long index, DiffPair<T> pair) {
+        List<PropertyDiff> diffs = null;
+        try {
+            if (failure.get() == null) {
+                diffs = propertyDiffService.diff(pair.before(), pair.after());
+            }
+        } catch (RuntimeException | Error ex) {
+            fail(ex);
+        }
+        if (window == null) {
+            deliver(index, pair, diffs);
+        } else {
+            synchronized (window) {
+                window[slot(index)] = new Completed<>(pair, diffs);
+                Completed<T> next;
+                while ((next = window[slot(nextDelivery)]) != null) {
+                    window[slot(nextDelivery)] = null;
+                    deliver(nextDelivery++, next.pair(), next.diffs());
+                }
+            }
+        }
+    }
+
+    private void deliver(long index, DiffPair<T> pair, List<PropertyDiff> diffs) {
+        try {
+            if (diffs != null && failure.get() == null) {
+                sink.accept(index, pair, diffs);
+            }
+        } catch (RuntimeException | Error ex) {
+            fail(ex);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private int slot(long index) {
+        return (int) (index % maxInFlight);
+    }
+
+    private void fail(Throwable ex) {
+        failure.compareAndSet(null, ex);
+    }
+
+    private record Completed<T>(DiffPair<T> pair, List<PropertyDiff> diffs) {
+    }
+}
@@ -0,0 +1,81 @@
+package ch.frostnova.test.jackson.test.util.diff;
+
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.PropertyDiff;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Baseline to diff many values against, created with {@link PropertyDiffService#baseline(Object)}. The value before
+ * is serialized once: to a token buffer when flattening is streaming (which is replayed for each diff, in lockstep
+ * with the tokens of the value after), otherwise to a tree (and its property paths, when arrays are compared by
+ * position). Only the values after are serialized per diff.
+ * <p>
+ * Immutable and thread-safe: a baseline can be shared by any number of threads (the cached tokens and tree are only
+ * read). Diffs have the same differences, in the same order, as {@link PropertyDiffService#diff(Object, Object)} with
+ * the baseline's value before, including the {@link ArrayAlignment} of the service.
+ *
+ * @param <T> value type
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class DiffBaseline<T> {
+
+    private final PropertyDiffService propertyDiffService;
+    private final TokenBuffer tokens;
+    private final JsonNode tree;
+    private final Map<String, String> propertyPaths;
+
+    DiffBaseline(PropertyDiffService propertyDiffService, TokenBuffer tokens, JsonNode tree, Map<String, String> propertyPaths) {
+        this.propertyDiffService = propertyDiffService;
+        this.tokens = tokens;
+        this.tree = tree;
+        this.propertyPaths = propertyPaths;
+    }
+
+    /**
+     * Diff a value against the baseline. The differences are ordered: changed properties, added properties, removed
+     * properties, each sorted by property path.
+     *
+     * @param after value after, required
+     * @return differences
+     */
+    public List<PropertyDiff> diff(T after) {
+        List<PropertyDiff> result = new ArrayList<>();
+        diff(after, result::add);
+        result.sort(PropertyDiffService.DIFF_ORDER);
+        return result;
+    }
+
+    /**
+     * Diff a value against the baseline, passing the differences to a consumer as they are found (unordered), as
+     * {@link PropertyDiffService#diff(Object, Object, Consumer)}.
+     *
+     * @param after    value after, required
+     * @param consumer consumer for the differences, required
+     */
+    public void diff(T after, Consumer<PropertyDiff> consumer) {
+        requireNonNull(after, "after is required");
+        requireNonNull(consumer, "consumer is required");
+
+        propertyDiffService.diffBaseline(this, after, consumer);
+    }
+
+    TokenBuffer tokens() {
+        return tokens;
+    }
+
+    JsonNode tree() {
+        return tree;
+    }
+
+    Map<String, String> propertyPaths() {
+        return propertyPaths;
+    }
+}
@@ -0,0 +1,511 @@
+package ch.frostnova.test.jackson.test.util.diff;
+
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.PropertyDiff;
+import ch.frostnova.test.jackson.test.util.diff.PropertyPathCursor.EmbeddedValueReader;
+import ch.frostnova.test.jackson.test.util.diff.PropertyPathCursor.ScalarReader;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Diff of two token streams, walked in lockstep in a single pass. Differences are emitted as they are found (in
+ * document order), with the same property paths and values as the flattening of {@link PropertyPathCursor}.
+ * <p>
+ * Object properties are matched by name: properties in the same order (as written by the same serializer) are
+ * compared directly, properties found in a different order are buffered until their counterpart shows up (or the
+ * object ends). Array elements are matched by position. Values which differ in kind (such as a scalar replaced by an
+ * object) are reported as removed and added properties. The state is proportional to the nesting depth, plus the
+ * buffered out-of-order properties.
+ * <p>
+ * Array elements are matched by position, unless the {@link ArrayAlignment} aligns the array: keyed arrays are matched
+ * by the key property values of their elements, arrays of scalar values by their longest common subsequence. Aligned
+ * arrays are buffered, their differences are emitted in the order of the elements after, followed by the removed
+ * elements.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+final class PropertyDiffEngine {
+
+    // maximal size of the edit script trace when aligning sequences, beyond which elements are compared by position
+    private static final long MAX_EDIT_TRACE = 1L << 22;
+
+    private final ScalarReader scalarReader;
+    private final EmbeddedValueReader embeddedValueReader;
+    private final ArrayAlignment arrayAlignment;
+    private final Consumer<PropertyDiff> consumer;
+    private final StringBuilder path = new StringBuilder(64);
+
+    /**
+     * Constructor
+     *
+     * @param scalarReader        reads the text of scalar values (strings, numbers, booleans), required
+     * @param embeddedValueReader provides the tokens of embedded values, required
+     * @param arrayAlignment      how to align array elements, required
+     * @param consumer            consumer for the differences, required
+     */
+    PropertyDiffEngine(ScalarReader scalarReader, EmbeddedValueReader embeddedValueReader, ArrayAlignment arrayAlignment,
+                       Consumer<PropertyDiff> consumer) {
+        this.scalarReader = scalarReader;
+        this.embeddedValueReader = embeddedValueReader;
+        this.arrayAlignment = arrayAlignment;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Diff two documents.
+     *
+     * @param before parser for the document before, positioned before the root value, required
+     * @param after  parser for the document after, positioned before the root value, required
+     * @throws IOException if the tokens cannot be read
+     */
+    void diff(JsonParser before, JsonParser after) throws IOException {
+        var beforeTokens = new Tokens(before);
+        var afterTokens = new Tokens(after);
+        path.setLength(0);
+        var beforeToken = beforeTokens.next();
+        var afterToken = afterTokens.next();
+        if (beforeToken != null && afterToken != null) {
+            compare(beforeTokens, afterTokens);
+        } else if (beforeToken != null) {
+            flatten(beforeTokens, false);
+        } else if (afterToken != null) {
+            flatten(afterTokens, true);
+        }
+    }
+
+    /**
+     * Compare two values, both positioned on their first token, at the current path.
+     */
+    private void compare(Tokens before, Tokens after) throws IOException {
+        var beforeToken = before.parser.currentToken();
+        var afterToken = after.parser.currentToken();
+        if (beforeToken == JsonToken.START_OBJECT && afterToken == JsonToken.START_OBJECT) {
+            compareObjects(before, after);
+        } else if (beforeToken == JsonToken.START_ARRAY && afterToken == JsonToken.START_ARRAY) {
+            compareArrays(before, after);
+        } else if (isValue(beforeToken) && isValue(afterToken)) {
+            var beforeValue = scalarReader.read(before.parser);
+            var afterValue = scalarReader.read(after.parser);
+            if (!beforeValue.equals(afterValue)) {
+                consumer.accept(new PropertyDiff(path.toString(), beforeValue, afterValue));
+            }
+        } else {
+            flatten(before, false);
+            flatten(after, true);
+        }
+    }
+
+    private void compareObjects(Tokens before, Tokens after) throws IOException {
+        var base = path.length();
+        // out-of-order properties, created on demand
+        Map<String, TokenBuffer> pendingBefore = null;
+        Map<String, TokenBuffer> pendingAfter = null;
+        var beforeName = before.nextProperty();
+        var afterName = after.nextProperty();
+        while (beforeName != null || afterName != null) {
+            if (beforeName != null && beforeName.equals(afterName)) {
+                property(base, beforeName);
+                compare(before, after);
+            } else {
+                if (beforeName != null) {
+                    var pending = pendingAfter != null ? pendingAfter.remove(beforeName) : null;
+                    if (pending != null) {
+                        property(base, beforeName);
+                        compare(before, after.buffered(pending));
+                    } else if (afterName == null) {
+                        property(base, beforeName);
+                        flatten(before, false);
+                    } else {
+                        pendingBefore = pendingBefore != null ? pendingBefore : new LinkedHashMap<>();
+                        pendingBefore.put(beforeName, before.buffer());
+                    }
+                }
+                if (afterName != null) {
+                    var pending = pendingBefore != null ? pendingBefore.remove(afterName) : null;
+                    if (pending != null) {
+                        property(base, afterName);
+                        compare(before.buffered(pending), after);
+                    } else if (beforeName == null) {
+                        property(base, afterName);
+                        flatten(after, true);
+                    } else {
+                        pendingAfter = pendingAfter != null ? pendingAfter : new LinkedHashMap<>();
+                        pendingAfter.put(afterName, after.buffer());
+                    }
+                }
+            }
+            beforeName = beforeName != null ? before.nextProperty() : null;
+            afterName = afterName != null ? after.nextProperty() : null;
+        }
+        flattenPending(pendingBefore, before, base, false);
+        flattenPending(pendingAfter, after, base, true);
+        path.setLength(base);
+    }
+
+    private void flattenPending(Map<String, TokenBuffer> pending, Tokens tokens, int base, boolean added) throws IOException {
+        if (pending != null) {
+            for (var entry : pending.entrySet()) {
+                property(base, entry.getKey());
+                flatten(tokens.buffered(entry.getValue()), added);
+            }
+        }
+    }
+
+    private void compareArrays(Tokens before, Tokens after) throws IOException {
+        var base = path.length();
+        var keyProperties = arrayAlignment.hasKeys() ? arrayAlignment.keyProperties(arrayPath()) : null;
+        var beforeToken = before.next();
+        var afterToken = after.next();
+        if (keyProperties != null) {
+            alignByKey(before, elements(before, beforeToken), after, elements(after, afterToken), keyProperties, base);
+        } else if (arrayAlignment.alignsScalarSequences() && isValueOrNull(beforeToken) && isValueOrNull(afterToken)) {
+            alignSequences(before, elements(before, beforeToken), after, elements(after, afterToken), base);
+        } else {
+            compareElementsByPosition(before, beforeToken, after, afterToken, base);
+        }
+        path.setLength(base);
+    }
+
+    private void compareElementsByPosition(Tokens before, JsonToken beforeToken, Tokens after, JsonToken afterToken, int base) throws IOException {
+        for (var index = 0; beforeToken != JsonToken.END_ARRAY || afterToken != JsonToken.END_ARRAY; index++) {
+            element(base, index);
+            if (beforeToken != JsonToken.END_ARRAY && afterToken != JsonToken.END_ARRAY) {
+                compare(before, after);
+            } else if (beforeToken != JsonToken.END_ARRAY) {
+                flatten(before, false);
+            } else {
+                flatten(after, true);
+            }
+            beforeToken = beforeToken != JsonToken.END_ARRAY ? before.next() : beforeToken;
+            afterToken = afterToken != JsonToken.END_ARRAY ? after.next() : afterToken;
+        }
+    }
+
+    /**
+     * Match elements with the same key (in order, for duplicate keys), elements without a key are never matched.
+     */
+    private void alignByKey(Tokens before, List<Object> beforeElements, Tokens after, List<Object> afterElements,
+                            List<String> keyProperties, int base) throws IOException {
+        Map<List<String>, ArrayDeque<Integer>> beforeIndices = new HashMap<>();
+        for (var i = 0; i < beforeElements.size(); i++) {
+            var key = key(before, beforeElements.get(i), keyProperties);
+            if (key != null) {
+                beforeIndices.computeIfAbsent(key, k -> new ArrayDeque<>()).add(i);
+            }
+        }
+        var matched = new boolean[beforeElements.size()];
+        for (var j = 0; j < afterElements.size(); j++) {
+            var key = key(after, afterElements.get(j), keyProperties);
+            var candidates = key != null ? beforeIndices.get(key) : null;
+            var i = candidates != null ? candidates.poll() : null;
+            element(base, j);
+            if (i != null) {
+                matched[i] = true;
+                compareElements(before, beforeElements.get(i), after, afterElements.get(j));
+            } else {
+                flattenElement(after, afterElements.get(j), true);
+            }
+        }
+        for (var i = 0; i < beforeElements.size(); i++) {
+            if (!matched[i]) {
+                element(base, i);
+                flattenElement(before, beforeElements.get(i), false);
+            }
+        }
+    }
+
+    /**
+     * Align elements by their longest common subsequence (after removing the common prefix and suffix), using the
+     * greedy shortest edit script of Myers (O((n + m) * d) for d inserted and removed elements). Between aligned
+     * elements, the remaining elements are compared by position, the surplus is added or removed.
+     */
+    private void alignSequences(Tokens before, List<Object> beforeElements, Tokens after, List<Object> afterElements,
+                                int base) throws IOException {
+        var start = 0;
+        var beforeEnd = beforeElements.size();
+        var afterEnd = afterElements.size();
+        while (start < beforeEnd && start < afterEnd && same(beforeElements.get(start), afterElements.get(start))) {
+            start++;
+        }
+        while (beforeEnd > start && afterEnd > start && same(beforeElements.get(beforeEnd - 1), afterElements.get(afterEnd - 1))) {
+            beforeEnd--;
+            afterEnd--;
+        }
+        var n = beforeEnd - start;
+        var m = afterEnd - start;
+        var max = n + m;
+        // v[offset + k]: furthest x (before index) on diagonal k = x - y, trace[d]: v[k - d - 1 .. k + d + 1] before step d
+        var v = new int[2 * max + 3];
+        var offset = max + 1;
+        List<int[]> trace = new ArrayList<>();
+        long traceSize = 0;
+        var end = -1;
+        for (var d = 0; d <= max && end < 0; d++) {
+            traceSize += 2L * d + 3;
+            if (traceSize > MAX_EDIT_TRACE) {
+                // too many edits: compare the remaining elements by position
+                compareRange(before, beforeElements, start, beforeEnd, after, afterElements, start, afterEnd, base);
+                return;
+            }
+            trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+            for (var k = -d; k <= d; k += 2) {
+                var x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]) ? v[offset + k + 1] : v[offset + k - 1] + 1;
+                var y = x - k;
+                while (x < n && y < m && same(beforeElements.get(start + x), afterElements.get(start + y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    end = d;
+                    break;
+                }
+            }
+        }
+        // backtrack: aligned element pairs, from the end
+        var matches = new ArrayDeque<int[]>();
+        int x = n, y = m;
+        for (var d = end; d >= 0; d--) {
+            var previous = trace.get(d);
+            var k = x - y;
+            var previousK = k == -d || (k != d && previous[k - 1 + d + 1] < previous[k + 1 + d + 1]) ? k + 1 : k - 1;
+            var previousX = d > 0 ? previous[previousK + d + 1] : 0;
+            var previousY = d > 0 ? previousX - previousK : 0;
+            while (x > previousX && y > previousY) {
+                matches.push(new int[]{--x, --y});
+            }
+            x = previousX;
+            y = previousY;
+        }
+        int unmatchedBefore = 0, unmatchedAfter = 0;
+        for (var match : matches) {
+            compareRange(before, beforeElements, start + unmatchedBefore, start + match[0], after, afterElements, start + unmatchedAfter, start + match[1], base);
+            unmatchedBefore = match[0] + 1;
+            unmatchedAfter = match[1] + 1;
+        }
+        compareRange(before, beforeElements, start + unmatchedBefore, beforeEnd, after, afterElements, start + unmatchedAfter, afterEnd, base);
+    }
+
+    /**
+     * Compare ranges of elements by position, and add or remove the surplus.
+     */
+    private void compareRange(Tokens before, List<Object> beforeElements, int beforeFrom, int beforeTo,
+                              Tokens after, List<Object> afterElements, int afterFrom, int afterTo, int base) throws IOException {
+        var common = Math.min(beforeTo - beforeFrom, afterTo - afterFrom);
+        for (var k = 0; k < common; k++) {
+            element(base, afterFrom + k);
+            compareElements(before, beforeElements.get(beforeFrom + k), after, afterElements.get(afterFrom + k));
+        }
+        for (var j = afterFrom + common; j < afterTo; j++) {
+            element(base, j);
+            flattenElement(after, afterElements.get(j), true);
+        }
+        for (var i = beforeFrom + common; i < beforeTo; i++) {
+            element(base, i);
+            flattenElement(before, beforeElements.get(i), false);
+        }
+    }
+
+    /**
+     * Read the elements of an array (positioned on the first element, or the end of the array): scalar values as
+     * text, null values as null, objects and arrays buffered.
+     */
+    private List<Object> elements(Tokens tokens, JsonToken token) throws IOException {
+        List<Object> elements = new ArrayList<>();
+        for (; token != JsonToken.END_ARRAY; token = tokens.next()) {
+            if (isValue(token)) {
+                elements.add(scalarReader.read(tokens.parser));
+            } else if (token == JsonToken.VALUE_NULL) {
+                elements.add(null);
+            } else {
+                elements.add(tokens.buffer());
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Key of an element: the values of its key properties, or null if the element is not an object or has none of
+     * the key properties.
+     */
+    private List<String> key(Tokens tokens, Object element, List<String> keyProperties) throws IOException {
+        if (!(element instanceof TokenBuffer buffer)) {
+            return null;
+        }
+        var object = tokens.buffered(buffer);
+        if (object.parser.currentToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        var values = new String[keyProperties.size()];
+        var found = false;
+        String name;
+        while ((name = object.nextProperty()) != null) {
+            var index = keyProperties.indexOf(name);
+            var token = object.parser.currentToken();
+            if (index >= 0 && isValue(token)) {
+                values[index] = scalarReader.read(object.parser);
+                found = true;
+            } else if (token.isStructStart()) {
+                object.parser.skipChildren();
+            }
+        }
+        return found ? Arrays.asList(values) : null;
+    }
+
+    private void compareElements(Tokens before, Object beforeElement, Tokens after, Object afterElement) throws IOException {
+        if (beforeElement instanceof TokenBuffer beforeBuffer && afterElement instanceof TokenBuffer afterBuffer) {
+            compare(before.buffered(beforeBuffer), after.buffered(afterBuffer));
+        } else if (beforeElement instanceof String && afterElement instanceof String) {
+            if (!beforeElement.equals(afterElement)) {
+                consumer.accept(new PropertyDiff(path.toString(), (String) beforeElement, (String) afterElement));
+            }
+        } else {
+            flattenElement(before, beforeElement, false);
+            flattenElement(after, afterElement, true);
+        }
+    }
+
+    private void flattenElement(Tokens tokens, Object element, boolean added) throws IOException {
+        if (element instanceof TokenBuffer buffer) {
+            flatten(tokens.buffered(buffer), added);
+        } else if (element instanceof String value) {
+            consumer.accept(added ? new PropertyDiff(path.toString(), null, value) : new PropertyDiff(path.toString(), value, null));
+        }
+    }
+
+    /**
+     * Elements are the same if they are equal scalar values or both null (buffered objects and arrays never are).
+     */
+    private static boolean same(Object beforeElement, Object afterElement) {
+        return beforeElement instanceof String ? beforeElement.equals(afterElement) : beforeElement == null && afterElement == null;
+    }
+
+    /**
+     * Current path without element indices.
+     */
+    private String arrayPath() {
+        var arrayPath = new StringBuilder(path.length());
+        var inIndex = false;
+        for (var i = 0; i < path.length(); i++) {
+            var c = path.charAt(i);
+            if (c == '[') {
+                inIndex = true;
+            } else if (c == ']' && inIndex) {
+                inIndex = false;
+            } else if (!inIndex) {
+                arrayPath.append(c);
+            }
+        }
+        return arrayPath.toString();
+    }
+
+    /**
+     * Report all properties of a value (positioned on its first token) as added or removed.
+     */
+    private void flatten(Tokens tokens, boolean added) throws IOException {
+        var token = tokens.parser.currentToken();
+        var base = path.length();
+        if (token == JsonToken.START_OBJECT) {
+            String name;
+            while ((name = tokens.nextProperty()) != null) {
+                property(base, name);
+                flatten(tokens, added);
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            for (var index = 0; tokens.next() != JsonToken.END_ARRAY; index++) {
+                element(base, index);
+                flatten(tokens, added);
+            }
+        } else if (isValue(token)) {
+            var value = scalarReader.read(tokens.parser);
+            consumer.accept(added ? new PropertyDiff(path.toString(), null, value) : new PropertyDiff(path.toString(), value, null));
+        }
+        path.setLength(base);
+    }
+
+    private void property(int base, String name) {
+        path.setLength(base);
+        if (base > 0) {
+            path.append('.');
+        }
+        path.append(name);
+    }
+
+    private void element(int base, int index) {
+        path.setLength(base);
+        path.append('[').append(index).append(']');
+    }
+
+    private static boolean isValue(JsonToken token) {
+        return token.isScalarValue() && token != JsonToken.VALUE_NULL;
+    }
+
+    private static boolean isValueOrNull(JsonToken token) {
+        return token.isScalarValue();
+    }
+
+    /**
+     * Token source of one document, with embedded values replaced by their tokens.
+     */
+    private final class Tokens {
+
+        private JsonParser parser;
+
+        Tokens(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        JsonToken next() throws IOException {
+            var token = parser.nextToken();
+            while (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                parser = JsonParserSequence.createFlattened(false, embeddedValueReader.tokens(parser.getEmbeddedObject()), parser);
+                token = parser.nextToken();
+            }
+            return token;
+        }
+
+        /**
+         * Advance to the next property of the current object.
+         *
+         * @return property name (positioned on its value), or null at the end of the object
+         */
+        String nextProperty() throws IOException {
+            if (next() != JsonToken.FIELD_NAME) {
+                return null;
+            }
+            var name = parser.currentName();
+            next();
+            return name;
+        }
+
+        /**
+         * Buffer the current value (skipping it in this token source).
+         */
+        TokenBuffer buffer() throws IOException {
+            var buffer = new TokenBuffer(parser, null);
+            buffer.copyCurrentStructure(parser);
+            return buffer;
+        }
+
+        /**
+         * Token source over a buffered value, positioned on its first token.
+         */
+        Tokens buffered(TokenBuffer buffer) throws IOException {
+            var tokens = new Tokens(buffer.asParser(parser.getCodec()));
+            tokens.next();
+            return tokens;
+        }
+    }
+}
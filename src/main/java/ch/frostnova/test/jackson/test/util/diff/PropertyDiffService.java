@@ -1,40 +1,291 @@
 package ch.frostnova.test.jackson.test.util.diff;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadCapability;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
  * Prototype: create a value diff between two DTOs.
+ * <p>
+ * Values are flattened to property paths (see {@link #listPropertyPaths(Object)}), either by serializing to a
+ * {@link TokenBuffer} and walking its tokens in a single pass ({@link Flattening#STREAMING}, default), or by writing
+ * and re-reading a JSON tree ({@link Flattening#TREE}). Both give the same paths and values. Streaming flattening
+ * requires a JSON mapper: other formats change values on the round trip (such as XML, where all values are text), and
+ * are always flattened through the tree.
+ * <p>
+ * With streaming flattening, diffs walk the tokens of both values in lockstep ({@link PropertyDiffEngine}), without
+ * collecting their property paths. This gives the same differences, as long as property paths are unique (property
+ * names containing <code>'.'</code> or <code>'['</code>, or empty names, can make distinct properties share a path,
+ * of which the flattened property paths only keep the last).
+ * <p>
+ * Serialized documents (in the mapper's format, such as JSON, YAML, CBOR or Smile) can be diffed without binding them
+ * to objects, from streams or files (see {@link #diff(InputStream, InputStream, Consumer)}).
+ * <p>
+ * Array elements are compared by position, unless an {@link ArrayAlignment} aligns them by key or by their longest
+ * common subsequence, so that inserting or removing elements only reports the elements concerned. Where values are
+ * diffed through trees ({@link Flattening#TREE}, other formats than JSON, XML documents), aligned diffs walk the
+ * trees in lockstep.
  *
  * @author pwalser
  * @since 2021-03-10
  */
 public class PropertyDiffService {
 
+    /**
+     * How values are flattened to property paths.
+     */
+    public enum Flattening {
+        TREE, // serialize to a JSON string, read as tree and traverse
+        STREAMING // serialize to a token buffer, walk the tokens
+    }
+
+    private static final String JSON_FORMAT = "JSON";
+    // changed, added, removed, each by property path
+    static final Comparator<PropertyDiff> DIFF_ORDER = Comparator.<PropertyDiff>comparingInt(
+            diff -> diff.getOldValue() == null ? 1 : diff.getNewValue() == null ? 2 : 0).thenComparing(PropertyDiff::getPropertyPath);
+
     private final ObjectMapper objectMapper;
+    private final boolean streaming;
+    private final ArrayAlignment arrayAlignment;
 
     public PropertyDiffService(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this(objectMapper, Flattening.STREAMING);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper JSON object mapper, required
+     * @param flattening   how to flatten values, required
+     */
+    public PropertyDiffService(ObjectMapper objectMapper, Flattening flattening) {
+        this(objectMapper, flattening, ArrayAlignment.POSITION);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper   JSON object mapper, required
+     * @param flattening     how to flatten values, required
+     * @param arrayAlignment how to align array elements in diffs, required
+     */
+    public PropertyDiffService(ObjectMapper objectMapper, Flattening flattening, ArrayAlignment arrayAlignment) {
+        this.objectMapper = requireNonNull(objectMapper, "objectMapper is required");
+        this.streaming = requireNonNull(flattening, "flattening is required") == Flattening.STREAMING
+                && JSON_FORMAT.equals(objectMapper.getFactory().getFormatName());
+        this.arrayAlignment = requireNonNull(arrayAlignment, "arrayAlignment is required");
     }
 
+    /**
+     * Diff two values. The differences are ordered: changed properties, added properties, removed properties, each
+     * sorted by property path.
+     *
+     * @param before value before, required
+     * @param after  value after, required
+     * @param <T>    value type
+     * @return differences
+     */
     public <T> List<PropertyDiff> diff(T before, T after) {
         requireNonNull(before, "before is required");
         requireNonNull(after, "after is required");
 
-        var beforeValues = listPropertyPaths(before);
-        var afterValues = listPropertyPaths(after);
+        if (streaming || !arrayAlignment.isPositional()) {
+            List<PropertyDiff> result = new ArrayList<>();
+            diff(before, after, result::add);
+            result.sort(DIFF_ORDER);
+            return result;
+        }
+        return diffPropertyPaths(listPropertyPaths(before), listPropertyPaths(after));
+    }
+
+    /**
+     * Diff two values, passing the differences to a consumer as they are found. With {@link Flattening#STREAMING},
+     * both values are walked in lockstep in a single pass, without collecting their property paths, and the
+     * differences are passed in document order. Otherwise, they are passed in the order of {@link #diff(Object, Object)}
+     * (or in tree order, if arrays are aligned).
+     *
+     * @param before   value before, required
+     * @param after    value after, required
+     * @param consumer consumer for the differences, required
+     * @param <T>      value type
+     */
+    public <T> void diff(T before, T after, Consumer<PropertyDiff> consumer) {
+        requireNonNull(before, "before is required");
+        requireNonNull(after, "after is required");
+        requireNonNull(consumer, "consumer is required");
+
+        if (!streaming && arrayAlignment.isPositional()) {
+            diffPropertyPaths(listPropertyPaths(before), listPropertyPaths(after)).forEach(consumer);
+            return;
+        }
+        if (!streaming) {
+            try {
+                diffTrees(tree(before), tree(after), consumer);
+            } catch (IOException e) {
+                throw new RuntimeException("could not diff values", e);
+            }
+            return;
+        }
+        try (var beforeTokens = tokens(before); var afterTokens = tokens(after)) {
+            new PropertyDiffEngine(this::scalarValue, this::embeddedValue, arrayAlignment, consumer).diff(beforeTokens, afterTokens);
+        } catch (IOException e) {
+            throw new RuntimeException("could not diff values", e);
+        }
+    }
 
+    /**
+     * Diff two serialized documents in the mapper's format, without binding them to objects: the documents are read
+     * as token streams and walked in lockstep (see {@link #diff(InputStream, InputStream, Consumer)}). The differences
+     * are ordered as with {@link #diff(Object, Object)}.
+     *
+     * @param before document before, required (not closed)
+     * @param after  document after, required (not closed)
+     * @return differences
+     */
+    public List<PropertyDiff> diff(InputStream before, InputStream after) {
+        List<PropertyDiff> result = new ArrayList<>();
+        diff(before, after, result::add);
+        result.sort(DIFF_ORDER);
+        return result;
+    }
+
+    /**
+     * Diff two serialized documents in the mapper's format, without binding them to objects, passing the differences
+     * to a consumer as they are found. The property paths and values are the same as for the document trees (as read
+     * with {@link ObjectMapper#readTree(InputStream)}), the memory used is proportional to the nesting depth (plus
+     * properties found in a different order), not to the document size. Formats with repeated properties (XML, where
+     * repeated elements are combined to arrays in the tree) are read as trees.
+     *
+     * @param before   document before, required (not closed)
+     * @param after    document after, required (not closed)
+     * @param consumer consumer for the differences, required
+     */
+    public void diff(InputStream before, InputStream after, Consumer<PropertyDiff> consumer) {
+        requireNonNull(before, "before is required");
+        requireNonNull(after, "after is required");
+        requireNonNull(consumer, "consumer is required");
+
+        try (var beforeParser = parser(before); var afterParser = parser(after)) {
+            if (beforeParser.getReadCapabilities().isEnabled(StreamReadCapability.DUPLICATE_PROPERTIES)) {
+                JsonNode beforeTree = objectMapper.readTree(beforeParser);
+                JsonNode afterTree = objectMapper.readTree(afterParser);
+                if (arrayAlignment.isPositional()) {
+                    diffPropertyPaths(listPropertyPaths(beforeTree), listPropertyPaths(afterTree)).forEach(consumer);
+                } else {
+                    diffTrees(beforeTree, afterTree, consumer);
+                }
+            } else {
+                new PropertyDiffEngine(this::documentScalarValue, this::documentEmbeddedValue, arrayAlignment, consumer).diff(beforeParser, afterParser);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("could not diff documents", e);
+        }
+    }
+
+    /**
+     * Diff two files in the mapper's format, see {@link #diff(InputStream, InputStream)}.
+     *
+     * @param before file before, required
+     * @param after  file after, required
+     * @return differences
+     */
+    public List<PropertyDiff> diff(Path before, Path after) {
+        List<PropertyDiff> result = new ArrayList<>();
+        diff(before, after, result::add);
+        result.sort(DIFF_ORDER);
+        return result;
+    }
+
+    /**
+     * Diff two files in the mapper's format, see {@link #diff(InputStream, InputStream, Consumer)}.
+     *
+     * @param before   file before, required
+     * @param after    file after, required
+     * @param consumer consumer for the differences, required
+     */
+    public void diff(Path before, Path after, Consumer<PropertyDiff> consumer) {
+        requireNonNull(before, "before is required");
+        requireNonNull(after, "after is required");
+
+        try (var beforeIn = Files.newInputStream(before); var afterIn = Files.newInputStream(after)) {
+            diff(beforeIn, afterIn, consumer);
+        } catch (IOException e) {
+            throw new RuntimeException("could not read documents", e);
+        }
+    }
+
+    /**
+     * Diff many pairs of values in parallel (see {@link #diff(Object, Object)}), passing the differences of each pair
+     * to a sink. Pairs are taken from the iterator on the calling thread, which blocks until all pairs were diffed and
+     * passed to the sink. At most <code>maxInFlight</code> pairs are taken but not yet passed to the sink: results are
+     * never buffered beyond that, and the iterator is only advanced when the sink keeps up.
+     * <p>
+     * With {@link ResultOrder#ORDERED}, the sink is called in the order of the pairs, by one thread at a time. With
+     * {@link ResultOrder#UNORDERED}, it is called as soon as a pair is diffed, concurrently from the executor's
+     * threads (and must be thread-safe). On the first failure (diff, sink or executor), no further pairs are taken,
+     * and the failure is thrown once the pairs in flight are done (or immediately, if the calling thread is
+     * interrupted).
+     *
+     * @param pairs       pairs to diff, required
+     * @param executor    executor to run the diffs (such as a {@link java.util.concurrent.ForkJoinPool}, or a virtual
+     *                    thread per task executor on Java 21+), required
+     * @param maxInFlight maximal number of pairs taken but not yet passed to the sink, at least 1
+     * @param order       in which order the sink is called, required
+     * @param sink        sink for the differences, required
+     * @param <T>         value type
+     */
+    public <T> void diffAll(Iterator<DiffPair<T>> pairs, Executor executor, int maxInFlight, ResultOrder order, DiffSink<T> sink) {
+        requireNonNull(pairs, "pairs are required");
+        requireNonNull(executor, "executor is required");
+        requireNonNull(order, "order is required");
+        requireNonNull(sink, "sink is required");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        new BulkDiff<>(this, executor, maxInFlight, order == ResultOrder.ORDERED, sink).run(pairs);
+    }
+
+    /**
+     * Diff many pairs of values in parallel, see {@link #diffAll(Iterator, Executor, int, ResultOrder, DiffSink)}.
+     *
+     * @param pairs       pairs to diff, required (consumed, not closed)
+     * @param executor    executor to run the diffs, required
+     * @param maxInFlight maximal number of pairs taken but not yet passed to the sink, at least 1
+     * @param order       in which order the sink is called, required
+     * @param sink        sink for the differences, required
+     * @param <T>         value type
+     */
+    public <T> void diffAll(Stream<DiffPair<T>> pairs, Executor executor, int maxInFlight, ResultOrder order, DiffSink<T> sink) {
+        diffAll(requireNonNull(pairs, "pairs are required").iterator(), executor, maxInFlight, order, sink);
+    }
+
+    private List<PropertyDiff> diffPropertyPaths(Map<String, String> beforeValues, Map<String, String> afterValues) {
         List<PropertyDiff> result = new ArrayList<>();
 
         Set<String> commonPropertyPaths = new TreeSet<>(beforeValues.keySet());
@@ -67,26 +318,201 @@ public class PropertyDiffService {
     public <T> Map<String, String> listPropertyPaths(T value) {
 
         try {
-            var root = objectMapper.readTree(objectMapper.writeValueAsString(value));
             Map<String, String> result = new TreeMap<>();
-            listPropertyPaths("", root, result);
+            if (streaming) {
+                try (var cursor = new PropertyPathCursor(tokens(value), this::scalarValue, this::embeddedValue)) {
+                    while (cursor.next()) {
+                        result.put(cursor.path(), cursor.value());
+                    }
+                }
+            } else {
+                listPropertyPaths("", tree(value), result);
+            }
             return result;
         } catch (IOException e) {
             throw new RuntimeException("could not determine property paths", e);
         }
     }
 
-    private void listPropertyPaths(String basePath, JsonNode jsonNode, Map<String, String> result) {
+    /**
+     * Create a baseline to diff many values against (see {@link DiffBaseline}): the value is serialized once.
+     *
+     * @param before value before, required
+     * @param <T>    value type
+     * @return baseline
+     */
+    public <T> DiffBaseline<T> baseline(T before) {
+        requireNonNull(before, "before is required");
 
-        if (jsonNode.isNull()) {
-            return;
+        try {
+            if (streaming) {
+                return new DiffBaseline<>(this, buffer(before), null, null);
+            }
+            var tree = tree(before);
+            return new DiffBaseline<>(this, null, tree, arrayAlignment.isPositional() ? unmodifiableMap(listPropertyPaths(tree)) : null);
+        } catch (IOException e) {
+            throw new RuntimeException("could not create baseline", e);
         }
+    }
+
+    /**
+     * Diff a value against a baseline, as {@link #diff(Object, Object, Consumer)} with the baseline's value before.
+     */
+    <T> void diffBaseline(DiffBaseline<T> baseline, T after, Consumer<PropertyDiff> consumer) {
+        try {
+            if (baseline.tokens() != null) {
+                try (var beforeTokens = baseline.tokens().asParser(objectMapper); var afterTokens = tokens(after)) {
+                    new PropertyDiffEngine(this::scalarValue, this::embeddedValue, arrayAlignment, consumer).diff(beforeTokens, afterTokens);
+                }
+            } else if (baseline.propertyPaths() != null) {
+                diffPropertyPaths(baseline.propertyPaths(), listPropertyPaths(after)).forEach(consumer);
+            } else {
+                diffTrees(baseline.tree(), tree(after), consumer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("could not diff values", e);
+        }
+    }
+
+    private Map<String, String> listPropertyPaths(JsonNode root) {
+        Map<String, String> result = new TreeMap<>();
+        if (root != null) {
+            listPropertyPaths("", root, result);
+        }
+        return result;
+    }
+
+    /**
+     * Diff two trees in lockstep (to align arrays), with the values as flattened from the trees.
+     */
+    private void diffTrees(JsonNode before, JsonNode after, Consumer<PropertyDiff> consumer) throws IOException {
+        try (var beforeTokens = objectMapper.treeAsTokens(before != null ? before : NullNode.getInstance());
+             var afterTokens = objectMapper.treeAsTokens(after != null ? after : NullNode.getInstance())) {
+            new PropertyDiffEngine(PropertyDiffService::treeScalarValue, this::documentEmbeddedValue, arrayAlignment, consumer)
+                    .diff(beforeTokens, afterTokens);
+        }
+    }
+
+    private JsonNode tree(Object value) throws IOException {
+        return objectMapper.readTree(objectMapper.writeValueAsString(value));
+    }
+
+    private JsonParser parser(InputStream in) throws IOException {
+        var parser = objectMapper.createParser(in);
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return parser;
+    }
+
+    private JsonParser tokens(Object value) throws IOException {
+        return buffer(value).asParser(objectMapper);
+    }
+
+    private TokenBuffer buffer(Object value) throws IOException {
+        var buffer = new TokenBuffer(objectMapper, false);
+        objectMapper.writeValue(buffer, value);
+        return buffer;
+    }
+
+    /**
+     * Text of a scalar value, as read back from JSON.
+     */
+    private String scalarValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> numberValue(parser.getNumberValue());
+            default -> parser.getText();
+        };
+    }
+
+    private String numberValue(Number number) throws IOException {
+        if (number instanceof Integer || number instanceof Long || number instanceof BigInteger
+                || number instanceof Short || number instanceof Byte) {
+            // JSON integers are read back as int, long or BigInteger, with the same digits
+            return number.toString();
+        }
+        if (!bigDecimalForFloats()) {
+            // JSON floating point numbers are read back as double
+            if (number instanceof Double) {
+                return number.toString();
+            }
+            if (number instanceof Float) {
+                return String.valueOf(Double.parseDouble(number.toString()));
+            }
+        }
+        // other representations (such as BigDecimal): as read back from JSON
+        return nodeValue(objectMapper.readTree(objectMapper.writeValueAsString(number)));
+    }
+
+    /**
+     * Tokens of an embedded value (binary data, raw values), as read back from JSON.
+     */
+    private JsonParser embeddedValue(Object embedded) throws IOException {
+        return objectMapper.treeAsTokens(objectMapper.readTree(objectMapper.writeValueAsString(embedded)));
+    }
+
+    /**
+     * Text of a scalar value in a document, as in the document tree.
+     */
+    private String documentScalarValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_STRING -> parser.getText();
+            // integers are read as int, long or BigInteger, with the same digits
+            case VALUE_NUMBER_INT -> parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT -> switch (bigDecimalForFloats() ? JsonParser.NumberTypeFP.BIG_DECIMAL : parser.getNumberTypeFP()) {
+                case FLOAT32 -> String.valueOf(parser.getFloatValue());
+                case BIG_DECIMAL -> nodeValue(objectMapper.readTree(parser));
+                default -> String.valueOf(parser.getDoubleValue());
+            };
+            default -> nodeValue(objectMapper.readTree(parser));
+        };
+    }
+
+    /**
+     * Text of a scalar value of a tree, as with {@link #nodeValue(JsonNode)}.
+     */
+    private static String treeScalarValue(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> String.valueOf(parser.getNumberValue());
+            default -> parser.getText();
+        };
+    }
+
+    /**
+     * Embedded values in documents (such as binary data) are neither text nor numbers in the document tree, and have
+     * no property paths.
+     */
+    private JsonParser documentEmbeddedValue(Object embedded) {
+        return objectMapper.treeAsTokens(NullNode.getInstance());
+    }
+
+    private boolean bigDecimalForFloats() {
+        var config = objectMapper.getDeserializationConfig();
+        return config.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS) || config.isEnabled(JsonNodeFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    private static String nodeValue(JsonNode jsonNode) {
         if (jsonNode.isBoolean()) {
-            result.put(basePath, String.valueOf(jsonNode.booleanValue()));
+            return String.valueOf(jsonNode.booleanValue());
         } else if (jsonNode.isNumber()) {
-            result.put(basePath, String.valueOf(jsonNode.numberValue()));
+            return String.valueOf(jsonNode.numberValue());
         } else if (jsonNode.isTextual()) {
-            result.put(basePath, jsonNode.textValue());
+            return jsonNode.textValue();
+        }
+        return null;
+    }
+
+    private void listPropertyPaths(String basePath, JsonNode jsonNode, Map<String, String> result) {
+
+        if (jsonNode.isNull()) {
+            return;
+        }
+        if (jsonNode.isBoolean() || jsonNode.isNumber() || jsonNode.isTextual()) {
+            result.put(basePath, nodeValue(jsonNode));
         } else if (jsonNode.isArray()) {
             for (var i = 0; i < jsonNode.size(); i++) {
                 listPropertyPaths(String.format("%s[%d]", basePath, i), jsonNode.get(i), result);
@@ -100,6 +526,47 @@ public class PropertyDiffService {
         }
     }
 
+    /**
+     * Order in which bulk diff results are passed to the sink.
+     */
+    public enum ResultOrder {
+        ORDERED, // in the order of the pairs, one at a time
+        UNORDERED // as soon as available, concurrently
+    }
+
+    /**
+     * Pair of values to diff.
+     *
+     * @param before value before, required
+     * @param after  value after, required
+     * @param <T>    value type
+     */
+    public record DiffPair<T>(T before, T after) {
+
+        public DiffPair {
+            requireNonNull(before, "before is required");
+            requireNonNull(after, "after is required");
+        }
+    }
+
+    /**
+     * Sink for bulk diff results.
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    public interface DiffSink<T> {
+
+        /**
+         * Accept the differences of a pair.
+         *
+         * @param index position of the pair (0-based)
+         * @param pair  pair
+         * @param diffs differences, ordered as with {@link PropertyDiffService#diff(Object, Object)}
+         */
+        void accept(long index, DiffPair<T> pair, List<PropertyDiff> diffs);
+    }
+
     public static class PropertyDiff {
 
         private final String propertyPath;
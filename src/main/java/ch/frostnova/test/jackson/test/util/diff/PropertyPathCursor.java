@@ -0,0 +1,152 @@
+package ch.frostnova.test.jackson.test.util.diff;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Cursor over the scalar values of a token stream and their property paths, in document order, in a single pass
+ * (no tree). Object properties are joined with <code>'.'</code>, array elements are indexed with <code>[i]</code>
+ * (e.g. <code>actors[2].firstName</code>). Null values, empty objects and empty arrays have no property paths.
+ * <p>
+ * The path is built in a reusable buffer, truncated to the enclosing container's path on each property or element.
+ * The state is proportional to the nesting depth.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+final class PropertyPathCursor implements Closeable {
+
+    private JsonParser parser;
+    private final ScalarReader scalarReader;
+    private final EmbeddedValueReader embeddedValueReader;
+
+    private final StringBuilder path = new StringBuilder(64);
+    // per nesting level: path length of the container, next array index (-1 for objects)
+    private int[] baseLengths = new int[16];
+    private int[] indices = new int[16];
+    private int depth;
+    private String value;
+
+    /**
+     * Constructor
+     *
+     * @param parser              parser, positioned before the root value, required
+     * @param scalarReader        reads the text of scalar values (strings, numbers, booleans), required
+     * @param embeddedValueReader provides the tokens of embedded values, required
+     */
+    PropertyPathCursor(JsonParser parser, ScalarReader scalarReader, EmbeddedValueReader embeddedValueReader) {
+        this.parser = parser;
+        this.scalarReader = scalarReader;
+        this.embeddedValueReader = embeddedValueReader;
+        indices[0] = -1;
+    }
+
+    /**
+     * Advance to the next scalar value.
+     *
+     * @return true if there is a value ({@link #path()}, {@link #value()}), false at the end of the document
+     * @throws IOException if the tokens cannot be read
+     */
+    boolean next() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case FIELD_NAME -> {
+                    path.setLength(baseLengths[depth]);
+                    if (!path.isEmpty()) {
+                        path.append('.');
+                    }
+                    path.append(parser.currentName());
+                }
+                case START_OBJECT, START_ARRAY -> {
+                    beforeValue();
+                    push(token == JsonToken.START_ARRAY);
+                }
+                case END_OBJECT, END_ARRAY -> depth--;
+                case VALUE_NULL -> beforeValue();
+                case VALUE_EMBEDDED_OBJECT -> {
+                    // continue with the embedded value's tokens, then with the remaining tokens
+                    var embedded = embeddedValueReader.tokens(parser.getEmbeddedObject());
+                    parser = JsonParserSequence.createFlattened(false, embedded, parser);
+                }
+                default -> {
+                    beforeValue();
+                    value = scalarReader.read(parser);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Property path of the current value.
+     *
+     * @return path, empty for a scalar root value
+     */
+    String path() {
+        return path.toString();
+    }
+
+    /**
+     * Text of the current value.
+     *
+     * @return value
+     */
+    String value() {
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void beforeValue() {
+        if (indices[depth] >= 0) {
+            path.setLength(baseLengths[depth]);
+            path.append('[').append(indices[depth]++).append(']');
+        }
+    }
+
+    private void push(boolean array) {
+        depth++;
+        if (depth == baseLengths.length) {
+            baseLengths = Arrays.copyOf(baseLengths, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        baseLengths[depth] = path.length();
+        indices[depth] = array ? 0 : -1;
+    }
+
+    @FunctionalInterface
+    interface ScalarReader {
+
+        /**
+         * Read the text of the current scalar value.
+         *
+         * @param parser parser, positioned on a scalar value
+         * @return text
+         * @throws IOException if the value cannot be read
+         */
+        String read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface EmbeddedValueReader {
+
+        /**
+         * Tokens of an embedded value (such as binary data or raw values in a token buffer).
+         *
+         * @param embedded embedded value
+         * @return parser over the tokens of the value, positioned before the value
+         * @throws IOException if the value cannot be converted
+         */
+        JsonParser tokens(Object embedded) throws IOException;
+    }
+}
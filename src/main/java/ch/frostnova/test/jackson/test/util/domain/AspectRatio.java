@@ -9,35 +9,53 @@ import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Value object: an aspect ratio
+ * <p>
+ * Use {@link #valueOf(String)} / {@link #valueOf(double, double)} for canonical (interned) instances: a catalog only
+ * holds a few dozen distinct ratios, so parsing, formatting and instances are cached, and looking up a known ratio
+ * does not allocate. The formatted string (up to two decimals, e.g. <code>2.39:1</code>) is rendered once per instance,
+ * and encoded once per serializer.
  *
  * @author pwalser
  * @since 06.07.2018
  */
-@JsonSerialize(using = ToStringSerializer.class)
+@JsonSerialize(using = AspectRatio.AspectRatioSerializer.class)
 @JsonDeserialize(using = AspectRatio.AspectRatioDeserializer.class)
 public class AspectRatio implements Serializable {
 
-    private static final Pattern PATTERN = Pattern.compile("\\s*(\\d+(?:\\.\\d+)?)\\s*:\\s*(\\d+(?:\\.\\d+)?)\\s*");
-    private static final DecimalFormat numberFormat = new DecimalFormat("0.##", new DecimalFormatSymbols(Locale.US));
+    /**
+     * Upper bound for the canonical instances and for the parsed strings, beyond that, values are not cached.
+     */
+    private static final int MAX_CACHED = 1024;
+    private static final Map<Key, AspectRatio> canonical = new ConcurrentHashMap<>();
+    private static final Map<String, AspectRatio> parsed = new ConcurrentHashMap<>();
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
     private final double width;
     private final double height;
+    private transient String formatted;
 
     public AspectRatio(String formatted) {
 
         if (formatted == null) {
             throw new IllegalArgumentException("Aspect ratio is required");
         }
-        var matcher = PATTERN.matcher(formatted);
-        if (!matcher.matches()) {
+        var separator = formatted.indexOf(':');
+        var widthStart = skipWhitespace(formatted, 0, formatted.length());
+        var widthEnd = separator < 0 ? -1 : trimWhitespace(formatted, widthStart, separator);
+        var heightStart = separator < 0 ? -1 : skipWhitespace(formatted, separator + 1, formatted.length());
+        var heightEnd = separator < 0 ? -1 : trimWhitespace(formatted, heightStart, formatted.length());
+        if (separator < 0 || !isNumber(formatted, widthStart, widthEnd) || !isNumber(formatted, heightStart, heightEnd)) {
             throw new IllegalArgumentException("Illegal aspect ratio: " + formatted);
         }
-        width = Double.parseDouble(matcher.group(1));
-        height = Double.parseDouble(matcher.group(2));
+        width = parseNumber(formatted, widthStart, widthEnd);
+        height = parseNumber(formatted, heightStart, heightEnd);
         if (width <= 0 || height <= 0) {
             throw new IllegalArgumentException("Illegal aspect ratio: " + width + " : " + height);
         }
@@ -52,6 +70,50 @@ public class AspectRatio implements Serializable {
         this.height = height;
     }
 
+    /**
+     * Canonical aspect ratio for a formatted value (same format as {@link #AspectRatio(String)}).
+     *
+     * @param formatted formatted aspect ratio, e.g. <code>16:9</code>, required
+     * @return canonical instance
+     * @throws IllegalArgumentException if the value is missing or invalid
+     */
+    public static AspectRatio valueOf(String formatted) {
+        if (formatted == null) {
+            throw new IllegalArgumentException("Aspect ratio is required");
+        }
+        var cached = parsed.get(formatted);
+        if (cached != null) {
+            return cached;
+        }
+        var aspectRatio = intern(new AspectRatio(formatted));
+        if (parsed.size() < MAX_CACHED) {
+            parsed.putIfAbsent(formatted, aspectRatio);
+        }
+        return aspectRatio;
+    }
+
+    /**
+     * Canonical aspect ratio for width and height.
+     *
+     * @param width  width, must be positive
+     * @param height height, must be positive
+     * @return canonical instance
+     * @throws IllegalArgumentException if width or height are not positive
+     */
+    public static AspectRatio valueOf(double width, double height) {
+        var cached = canonical.get(new Key(width, height));
+        return cached != null ? cached : intern(new AspectRatio(width, height));
+    }
+
+    private static AspectRatio intern(AspectRatio aspectRatio) {
+        if (canonical.size() >= MAX_CACHED) {
+            return aspectRatio;
+        }
+        aspectRatio.toString();
+        var existing = canonical.putIfAbsent(new Key(aspectRatio.width, aspectRatio.height), aspectRatio);
+        return existing != null ? existing : aspectRatio;
+    }
+
     public double getWidth() {
         return width;
     }
@@ -87,7 +149,135 @@ public class AspectRatio implements Serializable {
 
     @Override
     public String toString() {
-        return numberFormat.format(width) + ":" + numberFormat.format(height);
+        // racy single-check: immutable result, worst case rendered more than once
+        var result = formatted;
+        if (result == null) {
+            result = format(width) + ":" + format(height);
+            formatted = result;
+        }
+        return result;
+    }
+
+    /**
+     * Deserialized instances (Java serialization, Hessian) are replaced by the canonical instance.
+     */
+    private Object readResolve() {
+        return valueOf(width, height);
+    }
+
+    /**
+     * Format a number with up to two decimals, same as <code>new DecimalFormat("0.##")</code> (US symbols, half-even
+     * rounding of the exact binary value). Values close to a rounding tie, very large and non-finite values are
+     * delegated to a (non-shared) {@link DecimalFormat}.
+     */
+    static String format(double value) {
+        if (value >= 0 && value < 1e9) {
+            // below 1e11, the rounding error of the product is far below the tie margin
+            var scaled = value * 100;
+            var rounded = Math.rint(scaled);
+            if (Math.abs(Math.abs(scaled - rounded) - 0.5) > 1e-3) {
+                var cents = (long) rounded;
+                var integer = cents / 100;
+                var fraction = (int) (cents % 100);
+                if (fraction == 0) {
+                    return Long.toString(integer);
+                }
+                var builder = new StringBuilder(24).append(integer).append('.').append((char) ('0' + fraction / 10));
+                if (fraction % 10 != 0) {
+                    builder.append((char) ('0' + fraction % 10));
+                }
+                return builder.toString();
+            }
+        }
+        return new DecimalFormat("0.##", DecimalFormatSymbols.getInstance(Locale.US)).format(value);
+    }
+
+    /**
+     * Number: <code>\d+(\.\d+)?</code> (ASCII digits).
+     */
+    private static boolean isNumber(String s, int start, int end) {
+        var pos = start;
+        while (pos < end && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        if (pos == start) {
+            return false;
+        }
+        if (pos == end) {
+            return true;
+        }
+        if (s.charAt(pos++) != '.' || pos == end) {
+            return false;
+        }
+        while (pos < end && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        return pos == end;
+    }
+
+    /**
+     * Parse a validated number. Exact fast path for up to 15 significant digits (exactly representable mantissa
+     * divided by an exactly representable power of ten is correctly rounded), {@link Double#parseDouble(String)}
+     * otherwise.
+     */
+    private static double parseNumber(String s, int start, int end) {
+        long mantissa = 0;
+        var digits = 0;
+        var decimals = -1;
+        for (var pos = start; pos < end; pos++) {
+            var c = s.charAt(pos);
+            if (c == '.') {
+                decimals = 0;
+                continue;
+            }
+            if (mantissa == 0 && c == '0') {
+                decimals = decimals >= 0 ? decimals + 1 : decimals;
+                continue;
+            }
+            if (++digits > 15) {
+                return Double.parseDouble(s.substring(start, end));
+            }
+            mantissa = mantissa * 10 + (c - '0');
+            decimals = decimals >= 0 ? decimals + 1 : decimals;
+        }
+        if (decimals >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(s.substring(start, end));
+        }
+        return decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Whitespace, as defined by <code>\s</code> in regular expressions (ASCII only).
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    private static int skipWhitespace(String s, int start, int end) {
+        while (start < end && isWhitespace(s.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimWhitespace(String s, int start, int end) {
+        while (end > start && isWhitespace(s.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private record Key(double width, double height) {
+    }
+
+    static class AspectRatioSerializer extends ToStringSerializer {
+        public AspectRatioSerializer() {
+            super(MAX_CACHED);
+        }
     }
 
     static class AspectRatioDeserializer extends StringConstructorDeserializer<AspectRatio> {
@@ -5,11 +5,12 @@ import ch.frostnova.test.jackson.test.util.converter.FunctionalSerializer;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
+import java.util.EnumSet;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 
 /**
- * Genres, serializer by their identifier.
+ * Genres, serializer by their identifier (pre-encoded once per constant).
  *
  * @author pwalser
  * @since 07.07.2018.
@@ -27,7 +28,7 @@ public enum Genre {
 
     public static class GenreSerializer extends FunctionalSerializer<Genre> {
         public GenreSerializer() {
-            super(Genre::getIdentifier);
+            super(Genre::getIdentifier, EnumSet.allOf(Genre.class));
         }
     }
 
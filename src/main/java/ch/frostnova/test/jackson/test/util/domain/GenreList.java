@@ -0,0 +1,157 @@
+package ch.frostnova.test.jackson.test.util.domain;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * Compact list of genres, in insertion order (duplicates and <code>null</code> allowed, as with any list).
+ * <p>
+ * Each element is stored as a code (0 for <code>null</code>, ordinal + 1 otherwise): up to 16 elements as 4-bit codes
+ * packed into a single <code>long</code> (no further objects), longer lists as a byte array. Java serialization writes
+ * the genres (by name), not the codes.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class GenreList extends AbstractList<Genre> implements RandomAccess, Serializable {
+
+    private static final Genre[] GENRES = Genre.values();
+    private static final int PACKED_CAPACITY = GENRES.length < 16 ? 16 : 0;
+
+    private transient long packed;
+    private transient byte[] codes;
+    private transient int size;
+
+    public GenreList() {
+
+    }
+
+    /**
+     * Copy constructor
+     *
+     * @param genres genres to copy, required
+     */
+    public GenreList(Collection<? extends Genre> genres) {
+        if (genres == null) {
+            throw new IllegalArgumentException("genres are required");
+        }
+        if (genres instanceof GenreList other) {
+            packed = other.packed;
+            codes = other.codes != null ? Arrays.copyOf(other.codes, other.size) : null;
+            size = other.size;
+        } else {
+            ensureCapacity(genres.size());
+            for (var genre : genres) {
+                add(genre);
+            }
+        }
+    }
+
+    @Override
+    public Genre get(int index) {
+        checkIndex(index, size);
+        var code = codeAt(index);
+        return code == 0 ? null : GENRES[code - 1];
+    }
+
+    @Override
+    public Genre set(int index, Genre genre) {
+        var previous = get(index);
+        setCodeAt(index, code(genre));
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Genre genre) {
+        checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        for (var i = size; i > index; i--) {
+            setCodeAt(i, codeAt(i - 1));
+        }
+        setCodeAt(index, code(genre));
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Genre remove(int index) {
+        var previous = get(index);
+        for (var i = index; i < size - 1; i++) {
+            setCodeAt(i, codeAt(i + 1));
+        }
+        setCodeAt(size - 1, 0);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        packed = 0;
+        codes = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (var i = 0; i < size; i++) {
+            out.writeObject(get(i));
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        var length = in.readInt();
+        for (var i = 0; i < length; i++) {
+            add((Genre) in.readObject());
+        }
+    }
+
+    private int codeAt(int index) {
+        return codes != null ? codes[index] & 0xff : (int) (packed >>> (index << 2)) & 0xf;
+    }
+
+    private void setCodeAt(int index, int code) {
+        if (codes != null) {
+            codes[index] = (byte) code;
+        } else {
+            var shift = index << 2;
+            packed = (packed & ~(0xfL << shift)) | ((long) code << shift);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (codes == null && capacity > PACKED_CAPACITY) {
+            codes = new byte[Math.max(capacity, 2 * size)];
+            for (var i = 0; i < size; i++) {
+                codes[i] = (byte) ((packed >>> (i << 2)) & 0xf);
+            }
+            packed = 0;
+        } else if (codes != null && capacity > codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(capacity, codes.length + (codes.length >> 1)));
+        }
+    }
+
+    private static int code(Genre genre) {
+        return genre == null ? 0 : genre.ordinal() + 1;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+}
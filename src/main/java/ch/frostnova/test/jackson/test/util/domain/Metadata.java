@@ -6,13 +6,20 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import java.io.Serializable;
-import java.util.Map;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
 
 /**
  * Metadata, in key/value format
+ * <p>
+ * Compact storage: keys and values are kept in two parallel arrays, sorted by key (binary search), instead of a map
+ * with one entry object per key. {@link #freeze() Frozen} metadata (e.g. after deserialization) has exact-size arrays,
+ * which are shared by {@link #Metadata(Metadata) copies}, and copied on the first modification (copy-on-write).
  *
  * @author pwalser
  * @since 25.01.2018.
@@ -22,7 +29,31 @@ import java.util.TreeMap;
 @JsonDeserialize(using = MetadataConverter.Deserializer.class)
 public class Metadata implements Serializable {
 
-    private final Map<String, String> metadata = new TreeMap<>();
+    private static final String[] EMPTY = new String[0];
+
+    private String[] keys = EMPTY;
+    private String[] values = EMPTY;
+    private int size;
+    private boolean frozen;
+
+    public Metadata() {
+
+    }
+
+    /**
+     * Copy constructor. Copies of frozen metadata share its arrays (and are frozen as well).
+     *
+     * @param other metadata to copy, required
+     */
+    public Metadata(Metadata other) {
+        if (other == null) {
+            throw new IllegalArgumentException("metadata is required");
+        }
+        size = other.size;
+        frozen = other.frozen;
+        keys = frozen ? other.keys : Arrays.copyOf(other.keys, size);
+        values = frozen ? other.values : Arrays.copyOf(other.values, size);
+    }
 
     /**
      * Get a metadata value
@@ -31,7 +62,8 @@ public class Metadata implements Serializable {
      * @return optional value
      */
     public Optional<String> get(String key) {
-        return Optional.ofNullable(key).map(metadata::get);
+        var index = key != null ? indexOf(key) : -1;
+        return index >= 0 ? Optional.ofNullable(values[index]) : Optional.empty();
     }
 
     /**
@@ -44,7 +76,19 @@ public class Metadata implements Serializable {
         if (key == null) {
             throw new IllegalArgumentException("key is required");
         }
-        metadata.put(key, value);
+        var index = indexOf(key);
+        if (index >= 0) {
+            thaw(keys.length);
+            values[index] = value;
+            return;
+        }
+        index = -(index + 1);
+        thaw(size < keys.length ? keys.length : Math.max(4, size + (size >> 1)));
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
     }
 
     /**
@@ -56,15 +100,111 @@ public class Metadata implements Serializable {
         if (key == null) {
             throw new IllegalArgumentException("key is required");
         }
-        metadata.remove(key);
+        var index = indexOf(key);
+        if (index >= 0) {
+            removeAt(index);
+        }
     }
 
     /**
      * Return the keys of all entries
      *
-     * @return keys
+     * @return keys (sorted, live view)
      */
     public Set<String> getKeys() {
-        return metadata.keySet();
+        return new KeySet();
+    }
+
+    /**
+     * Compact the storage to exact-size arrays, which are then shared by copies until modified.
+     *
+     * @return this metadata
+     */
+    public Metadata freeze() {
+        if (!frozen) {
+            if (keys.length != size) {
+                keys = Arrays.copyOf(keys, size);
+                values = Arrays.copyOf(values, size);
+            }
+            frozen = true;
+        }
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private int indexOf(String key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void removeAt(int index) {
+        thaw(keys.length);
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    /**
+     * Prepare the arrays for modification: copy them if they are shared (frozen) or too small.
+     */
+    private void thaw(int capacity) {
+        if (frozen || capacity != keys.length) {
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            frozen = false;
+        }
+    }
+
+    private class KeySet extends AbstractSet<String> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String key && indexOf(key) >= 0;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int next;
+                private int expectedSize = size;
+                private boolean removable;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public String next() {
+                    if (size != expectedSize) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    removable = true;
+                    return keys[next++];
+                }
+
+                @Override
+                public void remove() {
+                    if (!removable) {
+                        throw new IllegalStateException();
+                    }
+                    removeAt(--next);
+                    expectedSize = size;
+                    removable = false;
+                }
+            };
+        }
     }
 }
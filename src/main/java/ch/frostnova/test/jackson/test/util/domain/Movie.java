@@ -15,14 +15,16 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * Test domain object, immutable - using internal builder.
+ * <p>
+ * Genres and ratings are held in compact collections ({@link GenreList}, {@link RatingMap}), exposed through the
+ * {@link List} and {@link Map} interfaces.
  *
  * @author pwalser
  * @since 25.01.2018.
@@ -48,11 +50,13 @@ public class Movie implements Serializable {
 
     @JsonProperty("genres")
     @JacksonXmlProperty(localName = "genre")
-    private List<Genre> genres = new LinkedList<>();
+    @JsonDeserialize(as = GenreList.class)
+    private GenreList genres = new GenreList();
 
     @JsonProperty("ratings")
     @JacksonXmlProperty(isAttribute = true)
-    private Map<String, Number> ratings = new HashMap<>();
+    @JsonDeserialize(as = RatingMap.class)
+    private RatingMap ratings = new RatingMap();
 
     @JsonProperty("synopsis")
     @JacksonXmlProperty(localName = "synopsis")
@@ -60,7 +64,7 @@ public class Movie implements Serializable {
 
     @JsonProperty("actors")
     @JacksonXmlProperty(localName = "actor")
-    private List<Actor> actors = new LinkedList<>();
+    private List<Actor> actors = new ArrayList<>(4);
 
     @JsonProperty("aspect-ratio")
     @JacksonXmlProperty(localName = "aspectRatio")
@@ -86,7 +90,7 @@ public class Movie implements Serializable {
                 .addRating("IMDB", 8.2)
                 .addRating("Metacritic", 89d)
                 .synopsis("A blade runner must pursue and terminate four replicants\n who stole a ship in space and have returned to Earth to find their creator.")
-                .aspectRatio(new AspectRatio(2.39, 1))
+                .aspectRatio(AspectRatio.valueOf(2.39, 1))
                 .duration(Duration.ofMinutes(117))
                 .addActor(new Actor("Harrison", "Ford", LocalDate.of(1942, 7, 13)))
                 .addActor(new Actor("Rutger", "Hauer", LocalDate.of(1944, 1, 23)))
@@ -125,16 +129,26 @@ public class Movie implements Serializable {
         return genres;
     }
 
+    /**
+     * Set the genres. Genres are kept in a compact {@link GenreList}: other lists are copied.
+     *
+     * @param genres genres, optional
+     */
     public void setGenres(List<Genre> genres) {
-        this.genres = genres;
+        this.genres = genres == null || genres instanceof GenreList ? (GenreList) genres : new GenreList(genres);
     }
 
     public Map<String, Number> getRatings() {
         return ratings;
     }
 
+    /**
+     * Set the ratings. Ratings are kept in a compact {@link RatingMap} (primitive values): other maps are copied.
+     *
+     * @param ratings ratings, optional
+     */
     public void setRatings(Map<String, Number> ratings) {
-        this.ratings = ratings;
+        this.ratings = ratings == null || ratings instanceof RatingMap ? (RatingMap) ratings : new RatingMap(ratings);
     }
 
     public String getSynopsis() {
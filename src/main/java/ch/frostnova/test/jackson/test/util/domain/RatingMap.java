@@ -0,0 +1,485 @@
+package ch.frostnova.test.jackson.test.util.domain;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Compact map of ratings (source &rarr; rating), in insertion order.
+ * <p>
+ * Ratings are stored as primitive values (no boxing): keys and value bits in parallel arrays, numeric kinds packed
+ * with two bits per entry (in a <code>long</code>, an array is only allocated beyond 32 entries). The numeric kind
+ * ({@link Integer}, {@link Long}, {@link Float} or {@link Double}) is kept, so ratings are read back (and serialized)
+ * as they were put: <code>8</code> stays an integer, not <code>8.0</code>. Other numbers (such as {@link Short},
+ * {@link java.math.BigDecimal} or {@link java.math.BigInteger}) are kept as they are, in a boxed array which is only
+ * allocated when there are such. Small maps are searched linearly; beyond {@value #INDEX_THRESHOLD} entries, an
+ * open-addressed hash index (linear probing) maps keys to array positions. The {@link Map} view boxes values on access
+ * (in their numeric kind), the primitive accessors ({@link #getRating(String, double)},
+ * {@link #putRating(String, double)}, {@link #ratingAt(int)}, {@link #forEachRating(ObjDoubleConsumer)}) do not. Keys
+ * and values are required (no <code>null</code>).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class RatingMap extends AbstractMap<String, Number> implements Serializable {
+
+    private static final int INDEX_THRESHOLD = 8;
+    private static final String[] NO_KEYS = new String[0];
+    private static final long[] NO_VALUES = new long[0];
+
+    // numeric kinds, and how the value bits are stored
+    private static final byte DOUBLE = 0; // Double.doubleToRawLongBits
+    private static final byte INT = 1; // value
+    private static final byte LONG = 2; // value
+    private static final byte FLOAT = 3; // Float.floatToRawIntBits
+    private static final byte BOXED = 4; // serialized only: other numbers, written as objects
+    private static final int PACKED_KINDS = Long.SIZE / 2;
+
+    private transient String[] keys = NO_KEYS;
+    private transient long[] values = NO_VALUES;
+    // kinds of the first PACKED_KINDS entries (two bits each), then of the following entries
+    private transient long packedKinds;
+    private transient byte[] moreKinds;
+    // other numbers, at the positions of entries which have them (stored with the DOUBLE kind)
+    private transient Number[] boxedValues;
+    private transient int size;
+    private transient int[] index;
+    private transient int modCount;
+
+    public RatingMap() {
+
+    }
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize expected number of ratings
+     */
+    public RatingMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        keys = new String[expectedSize];
+        values = new long[expectedSize];
+    }
+
+    /**
+     * Copy constructor
+     *
+     * @param ratings ratings to copy, required
+     */
+    public RatingMap(Map<String, ? extends Number> ratings) {
+        this(ratings == null ? 0 : ratings.size());
+        if (ratings == null) {
+            throw new IllegalArgumentException("ratings are required");
+        }
+        for (var entry : ratings.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String string && indexOf(string) >= 0;
+    }
+
+    @Override
+    public Number get(Object key) {
+        var position = key instanceof String string ? indexOf(string) : -1;
+        return position >= 0 ? boxed(position) : null;
+    }
+
+    /**
+     * Get a rating
+     *
+     * @param key          source, required
+     * @param defaultValue value to return if there is no rating for the source
+     * @return rating, or the default value
+     */
+    public double getRating(String key, double defaultValue) {
+        var position = indexOf(key);
+        return position >= 0 ? doubleValue(position) : defaultValue;
+    }
+
+    @Override
+    public Number put(String key, Number value) {
+        if (value == null) {
+            throw new IllegalArgumentException("rating is required");
+        }
+        var position = indexOf(key);
+        var previous = position >= 0 ? boxed(position) : null;
+        if (value instanceof Integer) {
+            put(key, value.intValue(), INT, null);
+        } else if (value instanceof Long) {
+            put(key, value.longValue(), LONG, null);
+        } else if (value instanceof Float) {
+            put(key, Float.floatToRawIntBits(value.floatValue()), FLOAT, null);
+        } else if (value instanceof Double) {
+            putRating(key, value.doubleValue());
+        } else {
+            put(key, 0, DOUBLE, value);
+        }
+        return previous;
+    }
+
+    /**
+     * Set a rating (as double)
+     *
+     * @param key   source, required
+     * @param value rating
+     */
+    public void putRating(String key, double value) {
+        put(key, Double.doubleToRawLongBits(value), DOUBLE, null);
+    }
+
+    private void put(String key, long bits, byte kind, Number boxed) {
+        if (key == null) {
+            throw new IllegalArgumentException("key is required");
+        }
+        var position = indexOf(key);
+        if (position >= 0) {
+            values[position] = bits;
+            setKind(position, kind);
+            setBoxed(position, boxed);
+            return;
+        }
+        if (size == keys.length) {
+            var capacity = Math.max(4, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = bits;
+        setKind(size, kind);
+        setBoxed(size, boxed);
+        size++;
+        modCount++;
+        if (index != null && size * 2 <= index.length) {
+            insertIndex(size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+    }
+
+    @Override
+    public Number remove(Object key) {
+        var position = key instanceof String string ? indexOf(string) : -1;
+        if (position < 0) {
+            return null;
+        }
+        var previous = boxed(position);
+        removeAt(position);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+        packedKinds = 0;
+        moreKinds = null;
+        boxedValues = null;
+        index = null;
+        modCount++;
+    }
+
+    /**
+     * Source at a position (insertion order).
+     *
+     * @param position position, 0 to size - 1
+     * @return source
+     */
+    public String keyAt(int position) {
+        Objects.checkIndex(position, size);
+        return keys[position];
+    }
+
+    /**
+     * Rating at a position (insertion order).
+     *
+     * @param position position, 0 to size - 1
+     * @return rating
+     */
+    public double ratingAt(int position) {
+        Objects.checkIndex(position, size);
+        return doubleValue(position);
+    }
+
+    /**
+     * Perform an action for each rating (in insertion order), without boxing.
+     *
+     * @param action action, required
+     */
+    public void forEachRating(ObjDoubleConsumer<String> action) {
+        var expectedModCount = modCount;
+        for (var i = 0; i < size; i++) {
+            action.accept(keys[i], doubleValue(i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Number>> entrySet() {
+        return new EntrySet();
+    }
+
+    private double doubleValue(int position) {
+        var boxed = boxedValue(position);
+        if (boxed != null) {
+            return boxed.doubleValue();
+        }
+        return switch (kind(position)) {
+            case INT, LONG -> values[position];
+            case FLOAT -> Float.intBitsToFloat((int) values[position]);
+            default -> Double.longBitsToDouble(values[position]);
+        };
+    }
+
+    private byte kind(int position) {
+        return position < PACKED_KINDS ? (byte) ((packedKinds >>> (position * 2)) & 3) : moreKinds[position - PACKED_KINDS];
+    }
+
+    private void setKind(int position, byte kind) {
+        if (position < PACKED_KINDS) {
+            packedKinds = packedKinds & ~(3L << (position * 2)) | ((long) kind << (position * 2));
+            return;
+        }
+        if (moreKinds == null || position - PACKED_KINDS >= moreKinds.length) {
+            var length = Math.max(position - PACKED_KINDS + 1, keys.length - PACKED_KINDS);
+            moreKinds = moreKinds == null ? new byte[length] : Arrays.copyOf(moreKinds, length);
+        }
+        moreKinds[position - PACKED_KINDS] = kind;
+    }
+
+    private Number boxedValue(int position) {
+        return boxedValues != null && position < boxedValues.length ? boxedValues[position] : null;
+    }
+
+    private void setBoxed(int position, Number boxed) {
+        if (boxed == null) {
+            if (boxedValues != null && position < boxedValues.length) {
+                boxedValues[position] = null;
+            }
+            return;
+        }
+        if (boxedValues == null || position >= boxedValues.length) {
+            boxedValues = boxedValues == null ? new Number[keys.length] : Arrays.copyOf(boxedValues, keys.length);
+        }
+        boxedValues[position] = boxed;
+    }
+
+    private Number boxed(int position) {
+        var boxed = boxedValue(position);
+        if (boxed != null) {
+            return boxed;
+        }
+        return switch (kind(position)) {
+            case INT -> (int) values[position];
+            case LONG -> values[position];
+            case FLOAT -> Float.intBitsToFloat((int) values[position]);
+            default -> Double.longBitsToDouble(values[position]);
+        };
+    }
+
+    private int indexOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        if (index == null) {
+            for (var i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        var mask = index.length - 1;
+        for (var slot = hash(key) & mask; index[slot] != 0; slot = (slot + 1) & mask) {
+            var position = index[slot] - 1;
+            if (keys[position].equals(key)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+        for (var i = position; i < size - 1; i++) {
+            setKind(i, kind(i + 1));
+            setBoxed(i, boxedValue(i + 1));
+        }
+        setKind(size - 1, DOUBLE);
+        setBoxed(size - 1, null);
+        size--;
+        keys[size] = null;
+        modCount++;
+        if (index != null) {
+            // positions after the removed entry have changed: rebuild (rare, ratings are mostly appended)
+            rebuildIndex();
+        }
+    }
+
+    private void rebuildIndex() {
+        if (size <= INDEX_THRESHOLD) {
+            index = null;
+            return;
+        }
+        index = new int[Integer.highestOneBit(size * 4 - 1)];
+        for (var i = 0; i < size; i++) {
+            insertIndex(i);
+        }
+    }
+
+    private void insertIndex(int position) {
+        var mask = index.length - 1;
+        var slot = hash(keys[position]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private static int hash(String key) {
+        var hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (var i = 0; i < size; i++) {
+            // as object: writeUTF is limited to 64 KB
+            out.writeObject(keys[i]);
+            var boxed = boxedValue(i);
+            if (boxed != null) {
+                out.writeByte(BOXED);
+                out.writeObject(boxed);
+            } else {
+                out.writeByte(kind(i));
+                out.writeLong(values[i]);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        var length = in.readInt();
+        if (length < 0) {
+            throw new InvalidObjectException("Illegal size: " + length);
+        }
+        keys = new String[length];
+        values = new long[length];
+        for (var i = 0; i < length; i++) {
+            if (!(in.readObject() instanceof String key)) {
+                throw new InvalidObjectException("Illegal key at position " + i);
+            }
+            var kind = in.readByte();
+            if (kind == BOXED) {
+                if (!(in.readObject() instanceof Number value)) {
+                    throw new InvalidObjectException("Illegal rating for " + key);
+                }
+                put(key, value);
+            } else if (kind >= DOUBLE && kind <= FLOAT) {
+                put(key, in.readLong(), kind, null);
+            } else {
+                throw new InvalidObjectException("Illegal numeric kind " + kind + " for " + key);
+            }
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Number>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            RatingMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Number>> iterator() {
+            return new Iterator<>() {
+                private int next;
+                private int last = -1;
+                private int expectedModCount = modCount;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Map.Entry<String, Number> next() {
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next++;
+                    return new RatingEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+                    removeAt(last);
+                    next = last;
+                    last = -1;
+                    expectedModCount = modCount;
+                }
+            };
+        }
+    }
+
+    /**
+     * Entry, writing through to the map on {@link #setValue(Number)}.
+     */
+    private class RatingEntry extends SimpleEntry<String, Number> {
+
+        private final int position;
+
+        RatingEntry(int position) {
+            super(keys[position], boxed(position));
+            this.position = position;
+        }
+
+        @Override
+        public Number setValue(Number value) {
+            if (value == null) {
+                throw new IllegalArgumentException("rating is required");
+            }
+            put(getKey(), value);
+            return super.setValue(boxed(position));
+        }
+    }
+}
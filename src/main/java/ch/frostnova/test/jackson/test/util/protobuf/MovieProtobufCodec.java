@@ -0,0 +1,429 @@
+package ch.frostnova.test.jackson.test.util.protobuf;
+
+import ch.frostnova.test.jackson.test.proto.MovieProtos;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.GenreList;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.domain.RatingMap;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.protobuf.WireFormat.WIRETYPE_FIXED64;
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static com.google.protobuf.WireFormat.WIRETYPE_VARINT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Direct protobuf codec for {@link Movie}, writing and reading the fields of <code>movie.proto</code> straight from/to
+ * the domain object, without the intermediate {@link MovieProtos.MovieMessage} graph. The output is byte-identical to
+ * {@link MovieProtos.MovieMessage#toByteArray()}, and decoding follows the semantics of {@link MovieProtobufMapper}
+ * (empty strings and zero durations decode to <code>null</code>, packed and unpacked genres are accepted, unknown
+ * fields are skipped). Unlike the mapper, <code>null</code> values are encoded as absent fields.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class MovieProtobufCodec {
+
+    // MovieMessage
+    private static final int TAG_CREATED = 1 << 3 | WIRETYPE_VARINT;
+    private static final int TAG_TITLE = 2 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_YEAR = 3 << 3 | WIRETYPE_VARINT;
+    private static final int TAG_GENRE = 4 << 3 | WIRETYPE_VARINT;
+    private static final int TAG_GENRES_PACKED = 4 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_RATING = 5 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_SYNOPSIS = 6 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_ACTOR = 7 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_ASPECT_RATIO = 8 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_DURATION_SECONDS = 9 << 3 | WIRETYPE_VARINT;
+    private static final int TAG_METADATA = 10 << 3 | WIRETYPE_LENGTH_DELIMITED;
+
+    // ActorMessage
+    private static final int TAG_FIRST_NAME = 1 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_LAST_NAME = 2 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_BIRTH_DATE = 3 << 3 | WIRETYPE_LENGTH_DELIMITED;
+
+    // map entries
+    private static final int TAG_ENTRY_KEY = 1 << 3 | WIRETYPE_LENGTH_DELIMITED;
+    private static final int TAG_ENTRY_DOUBLE_VALUE = 2 << 3 | WIRETYPE_FIXED64;
+    private static final int TAG_ENTRY_STRING_VALUE = 2 << 3 | WIRETYPE_LENGTH_DELIMITED;
+
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private MovieProtobufCodec() {
+
+    }
+
+    /**
+     * Compute the encoded size of a movie.
+     *
+     * @param movie movie, required
+     * @return size in bytes
+     */
+    public static int computeSize(Movie movie) {
+        var size = 0;
+        var createdMs = toEpochMs(movie.getCreated());
+        if (createdMs != 0) {
+            size += CodedOutputStream.computeInt64Size(1, createdMs);
+        }
+        size += computeStringSize(2, movie.getTitle());
+        if (movie.getYear() != 0) {
+            size += CodedOutputStream.computeInt32Size(3, movie.getYear());
+        }
+        var genres = movie.getGenres();
+        if (genres != null && !genres.isEmpty()) {
+            var genresSize = computeGenresSize(genres);
+            size += 1 + CodedOutputStream.computeUInt32SizeNoTag(genresSize) + genresSize;
+        }
+        var ratings = ratings(movie);
+        for (var i = 0; i < ratings.size(); i++) {
+            var entrySize = computeRatingSize(ratings.keyAt(i), ratings.ratingAt(i));
+            size += 1 + CodedOutputStream.computeUInt32SizeNoTag(entrySize) + entrySize;
+        }
+        size += computeStringSize(6, movie.getSynopsis());
+        if (movie.getActors() != null) {
+            for (var actor : movie.getActors()) {
+                var actorSize = computeActorSize(actor);
+                size += 1 + CodedOutputStream.computeUInt32SizeNoTag(actorSize) + actorSize;
+            }
+        }
+        if (movie.getAspectRatio() != null) {
+            size += computeStringSize(8, movie.getAspectRatio().toString());
+        }
+        var durationSeconds = toSeconds(movie.getDuration());
+        if (durationSeconds != 0) {
+            size += CodedOutputStream.computeInt64Size(9, durationSeconds);
+        }
+        if (movie.getMetadata() != null) {
+            for (var key : movie.getMetadata().getKeys()) {
+                var value = movie.getMetadata().get(key).orElse(null);
+                if (value != null) {
+                    var entrySize = computeMetadataSize(key, value);
+                    size += 1 + CodedOutputStream.computeUInt32SizeNoTag(entrySize) + entrySize;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Write a movie (without length prefix). Fields are written in field number order, like the generated code.
+     *
+     * @param movie movie, required
+     * @param out   output, required (not flushed)
+     * @throws IOException on I/O errors
+     */
+    public static void write(Movie movie, CodedOutputStream out) throws IOException {
+        var createdMs = toEpochMs(movie.getCreated());
+        if (createdMs != 0) {
+            out.writeInt64(1, createdMs);
+        }
+        writeString(out, 2, movie.getTitle());
+        if (movie.getYear() != 0) {
+            out.writeInt32(3, movie.getYear());
+        }
+        var genres = movie.getGenres();
+        if (genres != null && !genres.isEmpty()) {
+            out.writeUInt32NoTag(TAG_GENRES_PACKED);
+            out.writeUInt32NoTag(computeGenresSize(genres));
+            for (var genre : genres) {
+                out.writeEnumNoTag(ProtobufGenres.toNumber(genre));
+            }
+        }
+        var ratings = ratings(movie);
+        for (var i = 0; i < ratings.size(); i++) {
+            var key = ratings.keyAt(i);
+            var value = ratings.ratingAt(i);
+            out.writeUInt32NoTag(TAG_RATING);
+            out.writeUInt32NoTag(computeRatingSize(key, value));
+            out.writeString(1, key);
+            out.writeDouble(2, value);
+        }
+        writeString(out, 6, movie.getSynopsis());
+        if (movie.getActors() != null) {
+            for (var actor : movie.getActors()) {
+                out.writeUInt32NoTag(TAG_ACTOR);
+                out.writeUInt32NoTag(computeActorSize(actor));
+                writeString(out, 1, actor.getFirstName());
+                writeString(out, 2, actor.getLastName());
+                if (actor.getBirthDate() != null) {
+                    writeDate(out, actor.getBirthDate());
+                }
+            }
+        }
+        if (movie.getAspectRatio() != null) {
+            writeString(out, 8, movie.getAspectRatio().toString());
+        }
+        var durationSeconds = toSeconds(movie.getDuration());
+        if (durationSeconds != 0) {
+            out.writeInt64(9, durationSeconds);
+        }
+        if (movie.getMetadata() != null) {
+            for (var key : movie.getMetadata().getKeys()) {
+                var value = movie.getMetadata().get(key).orElse(null);
+                if (value != null) {
+                    out.writeUInt32NoTag(TAG_METADATA);
+                    out.writeUInt32NoTag(computeMetadataSize(key, value));
+                    out.writeString(1, key);
+                    out.writeString(2, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Read a movie, until the end of the input (or the current limit).
+     *
+     * @param in input, required
+     * @return movie
+     * @throws IOException on I/O errors or malformed input
+     */
+    public static Movie read(CodedInputStream in) throws IOException {
+        return read(in, null);
+    }
+
+    /**
+     * Read a movie, until the end of the input (or the current limit), deduplicating rating keys, metadata keys and
+     * values and actor names through a string pool.
+     *
+     * @param in   input, required
+     * @param pool string pool, optional
+     * @return movie
+     * @throws IOException on I/O errors or malformed input
+     */
+    public static Movie read(CodedInputStream in, StringPool pool) throws IOException {
+        var movie = new Movie();
+        long createdMs = 0;
+        String aspectRatio = null;
+        long durationSeconds = 0;
+        var genres = new GenreList();
+        var ratings = new RatingMap();
+        List<Actor> actors = new ArrayList<>(4);
+
+        var done = false;
+        while (!done) {
+            var tag = in.readTag();
+            switch (tag) {
+                case 0 -> done = true;
+                case TAG_CREATED -> createdMs = in.readInt64();
+                case TAG_TITLE -> movie.setTitle(emptyToNull(in.readStringRequireUtf8()));
+                case TAG_YEAR -> movie.setYear(in.readInt32());
+                case TAG_GENRE -> genres.add(ProtobufGenres.fromNumber(in.readEnum()));
+                case TAG_GENRES_PACKED -> {
+                    var limit = in.pushLimit(in.readRawVarint32());
+                    while (in.getBytesUntilLimit() > 0) {
+                        genres.add(ProtobufGenres.fromNumber(in.readEnum()));
+                    }
+                    in.popLimit(limit);
+                }
+                case TAG_RATING -> readRating(in, ratings, pool);
+                case TAG_SYNOPSIS -> movie.setSynopsis(emptyToNull(in.readStringRequireUtf8()));
+                case TAG_ACTOR -> actors.add(readActor(in, pool));
+                case TAG_ASPECT_RATIO -> aspectRatio = in.readStringRequireUtf8();
+                case TAG_DURATION_SECONDS -> durationSeconds = in.readInt64();
+                case TAG_METADATA -> readMetadata(in, movie, pool);
+                default -> done = !in.skipField(tag);
+            }
+        }
+        in.checkLastTagWas(0);
+        movie.setCreated(Instant.ofEpochMilli(createdMs));
+        movie.setAspectRatio(aspectRatio == null || aspectRatio.isEmpty() ? null : AspectRatio.valueOf(aspectRatio));
+        movie.setDuration(durationSeconds != 0 ? Duration.ofSeconds(durationSeconds) : null);
+        movie.setGenres(genres);
+        movie.setRatings(ratings);
+        movie.setActors(actors);
+        movie.getMetadata().freeze();
+        return movie;
+    }
+
+    private static void readRating(CodedInputStream in, RatingMap ratings, StringPool pool) throws IOException {
+        var limit = in.pushLimit(in.readRawVarint32());
+        var key = "";
+        var value = 0d;
+        var done = false;
+        while (!done) {
+            var tag = in.readTag();
+            switch (tag) {
+                case 0 -> done = true;
+                case TAG_ENTRY_KEY -> key = readString(in, pool);
+                case TAG_ENTRY_DOUBLE_VALUE -> value = in.readDouble();
+                default -> done = !in.skipField(tag);
+            }
+        }
+        in.checkLastTagWas(0);
+        in.popLimit(limit);
+        ratings.putRating(key, value);
+    }
+
+    private static void readMetadata(CodedInputStream in, Movie movie, StringPool pool) throws IOException {
+        var limit = in.pushLimit(in.readRawVarint32());
+        var key = "";
+        var value = "";
+        var done = false;
+        while (!done) {
+            var tag = in.readTag();
+            switch (tag) {
+                case 0 -> done = true;
+                case TAG_ENTRY_KEY -> key = readString(in, pool);
+                case TAG_ENTRY_STRING_VALUE -> value = readString(in, pool);
+                default -> done = !in.skipField(tag);
+            }
+        }
+        in.checkLastTagWas(0);
+        in.popLimit(limit);
+        movie.getMetadata().set(key, value);
+    }
+
+    private static Actor readActor(CodedInputStream in, StringPool pool) throws IOException {
+        var limit = in.pushLimit(in.readRawVarint32());
+        String firstName = null;
+        String lastName = null;
+        LocalDate birthDate = null;
+        var done = false;
+        while (!done) {
+            var tag = in.readTag();
+            switch (tag) {
+                case 0 -> done = true;
+                case TAG_FIRST_NAME -> firstName = emptyToNull(readString(in, pool));
+                case TAG_LAST_NAME -> lastName = emptyToNull(readString(in, pool));
+                case TAG_BIRTH_DATE -> birthDate = readDate(in);
+                default -> done = !in.skipField(tag);
+            }
+        }
+        in.checkLastTagWas(0);
+        in.popLimit(limit);
+        return new Actor(firstName, lastName, birthDate);
+    }
+
+    private static int computeGenresSize(List<Genre> genres) {
+        var size = 0;
+        for (var genre : genres) {
+            size += CodedOutputStream.computeEnumSizeNoTag(ProtobufGenres.toNumber(genre));
+        }
+        return size;
+    }
+
+    private static int computeRatingSize(String key, double value) {
+        // map entries always contain key and value, even if they are default values
+        return CodedOutputStream.computeStringSize(1, key) + CodedOutputStream.computeDoubleSize(2, value);
+    }
+
+    private static int computeMetadataSize(String key, String value) {
+        return CodedOutputStream.computeStringSize(1, key) + CodedOutputStream.computeStringSize(2, value);
+    }
+
+    private static int computeActorSize(Actor actor) {
+        var size = computeStringSize(1, actor.getFirstName()) + computeStringSize(2, actor.getLastName());
+        var birthDate = actor.getBirthDate();
+        if (birthDate != null) {
+            size += isIsoYear(birthDate) ? 2 + ISO_DATE_LENGTH : CodedOutputStream.computeStringSize(3, birthDate.toString());
+        }
+        return size;
+    }
+
+    private static int computeStringSize(int field, String value) {
+        return value == null || value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            out.writeString(field, value);
+        }
+    }
+
+    /**
+     * Write a date as ISO-8601 string (field 3 of ActorMessage), encoding the digits directly for years 0..9999.
+     */
+    private static void writeDate(CodedOutputStream out, LocalDate date) throws IOException {
+        if (!isIsoYear(date)) {
+            out.writeString(3, date.toString());
+            return;
+        }
+        out.writeUInt32NoTag(TAG_BIRTH_DATE);
+        out.writeUInt32NoTag(ISO_DATE_LENGTH);
+        writeDigits(out, date.getYear(), 4);
+        out.write((byte) '-');
+        writeDigits(out, date.getMonthValue(), 2);
+        out.write((byte) '-');
+        writeDigits(out, date.getDayOfMonth(), 2);
+    }
+
+    private static void writeDigits(CodedOutputStream out, int value, int digits) throws IOException {
+        for (int divisor = digits == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            out.write((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    /**
+     * Read an ISO-8601 date string, parsing the digits directly if it has the <code>yyyy-MM-dd</code> form.
+     */
+    private static LocalDate readDate(CodedInputStream in) throws IOException {
+        var bytes = in.readByteArray();
+        if (bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length == ISO_DATE_LENGTH && bytes[4] == '-' && bytes[7] == '-') {
+            var year = parseDigits(bytes, 0, 4);
+            var month = parseDigits(bytes, 5, 2);
+            var day = parseDigits(bytes, 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        return LocalDate.parse(new String(bytes, UTF_8));
+    }
+
+    private static int parseDigits(byte[] bytes, int offset, int length) {
+        var value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            var digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isIsoYear(LocalDate date) {
+        return date.getYear() >= 0 && date.getYear() <= 9999;
+    }
+
+    /**
+     * Ratings of a movie as {@link RatingMap} (primitive access), empty if absent.
+     */
+    private static RatingMap ratings(Movie movie) {
+        var ratings = movie.getRatings();
+        if (ratings instanceof RatingMap ratingMap) {
+            return ratingMap;
+        }
+        return ratings != null ? new RatingMap(ratings) : new RatingMap();
+    }
+
+    private static long toEpochMs(Instant instant) {
+        return instant == null ? 0 : instant.toEpochMilli();
+    }
+
+    private static long toSeconds(Duration duration) {
+        return duration == null ? 0 : duration.getSeconds();
+    }
+
+    private static String readString(CodedInputStream in, StringPool pool) throws IOException {
+        var value = in.readStringRequireUtf8();
+        return pool != null ? pool.intern(value) : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -4,10 +4,14 @@ import ch.frostnova.test.jackson.test.proto.MovieProtos;
 import ch.frostnova.test.jackson.test.util.domain.Actor;
 import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
 import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.GenreList;
 import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.domain.RatingMap;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Builder;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -19,9 +23,13 @@ import org.mapstruct.factory.Mappers;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Maps between the {@link Movie} domain object and the generated {@link MovieProtos.MovieMessage}.
+ * Maps between the {@link Movie} domain object and the generated {@link MovieProtos.MovieMessage}. When mapping from
+ * protobuf, rating keys, metadata keys and values and actor names can be deduplicated through a {@link StringPool}
+ * (mapping context).
  */
 @Mapper(
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
@@ -65,11 +73,22 @@ public interface MovieProtobufMapper {
     @Mapping(target = "ratings", source = "ratingsMap")
     @Mapping(target = "actors", source = "actorsList")
     @Mapping(target = "metadata", ignore = true)
-    Movie fromProto(MovieProtos.MovieMessage proto);
+    Movie fromProto(MovieProtos.MovieMessage proto, @Context StringPool pool);
+
+    default Movie fromProto(MovieProtos.MovieMessage proto) {
+        return fromProto(proto, null);
+    }
 
     @AfterMapping
-    default void fillMetadata(MovieProtos.MovieMessage proto, @MappingTarget Movie movie) {
-        proto.getMetadataMap().forEach((k, v) -> movie.getMetadata().set(k, v));
+    default void fillMetadata(MovieProtos.MovieMessage proto, @MappingTarget Movie movie, @Context StringPool pool) {
+        proto.getMetadataMap().forEach((k, v) -> movie.getMetadata().set(intern(k, pool), intern(v, pool)));
+        movie.getMetadata().freeze();
+    }
+
+    default Map<String, Number> fromProtoRatings(Map<String, Double> ratings, @Context StringPool pool) {
+        var result = new RatingMap(ratings.size());
+        ratings.forEach((k, v) -> result.putRating(intern(k, pool), v));
+        return result;
     }
 
     default MovieProtos.ActorMessage toProtoActor(Actor actor) {
@@ -80,19 +99,25 @@ public interface MovieProtobufMapper {
         return builder.build();
     }
 
-    default Actor fromProtoActor(MovieProtos.ActorMessage proto) {
+    default Actor fromProtoActor(MovieProtos.ActorMessage proto, @Context StringPool pool) {
         var birthDate = proto.getBirthDate().isEmpty() ? null : LocalDate.parse(proto.getBirthDate());
-        var firstName = proto.getFirstName().isEmpty() ? null : proto.getFirstName();
-        var lastName = proto.getLastName().isEmpty() ? null : proto.getLastName();
+        var firstName = proto.getFirstName().isEmpty() ? null : intern(proto.getFirstName(), pool);
+        var lastName = proto.getLastName().isEmpty() ? null : intern(proto.getLastName(), pool);
         return new Actor(firstName, lastName, birthDate);
     }
 
     default MovieProtos.GenreValue toProtoGenre(Genre genre) {
-        return MovieProtos.GenreValue.valueOf(genre.name());
+        return ProtobufGenres.toValue(genre);
     }
 
     default Genre fromProtoGenre(MovieProtos.GenreValue value) {
-        return Genre.valueOf(value.name());
+        return ProtobufGenres.fromValue(value);
+    }
+
+    default List<Genre> fromProtoGenres(List<MovieProtos.GenreValue> values) {
+        var genres = new GenreList();
+        values.forEach(value -> genres.add(fromProtoGenre(value)));
+        return genres;
     }
 
     @Named("instantToEpochMs")
@@ -122,11 +147,15 @@ public interface MovieProtobufMapper {
 
     @Named("parseAspectRatio")
     default AspectRatio parseAspectRatio(String s) {
-        return s.isEmpty() ? null : new AspectRatio(s);
+        return s.isEmpty() ? null : AspectRatio.valueOf(s);
     }
 
     @Named("secondsToDuration")
     default Duration secondsToDuration(long seconds) {
         return seconds != 0 ? Duration.ofSeconds(seconds) : null;
     }
+
+    private static String intern(String value, StringPool pool) {
+        return pool != null ? pool.intern(value) : value;
+    }
 }
@@ -0,0 +1,58 @@
+package ch.frostnova.test.jackson.test.util.protobuf;
+
+import ch.frostnova.test.jackson.test.proto.MovieProtos;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+
+/**
+ * Lookup tables between {@link Genre} and the protobuf {@link MovieProtos.GenreValue}, matched by name once, then
+ * indexed by ordinal (domain to protobuf) and by enum number (protobuf to domain).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+final class ProtobufGenres {
+
+    private static final MovieProtos.GenreValue[] VALUES_BY_ORDINAL = new MovieProtos.GenreValue[Genre.values().length];
+    private static final int[] NUMBERS_BY_ORDINAL = new int[Genre.values().length];
+    private static final Genre[] GENRES_BY_NUMBER;
+
+    static {
+        var maxNumber = 0;
+        for (var genre : Genre.values()) {
+            var value = MovieProtos.GenreValue.valueOf(genre.name());
+            VALUES_BY_ORDINAL[genre.ordinal()] = value;
+            NUMBERS_BY_ORDINAL[genre.ordinal()] = value.getNumber();
+            maxNumber = Math.max(maxNumber, value.getNumber());
+        }
+        GENRES_BY_NUMBER = new Genre[maxNumber + 1];
+        for (var genre : Genre.values()) {
+            GENRES_BY_NUMBER[NUMBERS_BY_ORDINAL[genre.ordinal()]] = genre;
+        }
+    }
+
+    private ProtobufGenres() {
+
+    }
+
+    static MovieProtos.GenreValue toValue(Genre genre) {
+        return VALUES_BY_ORDINAL[genre.ordinal()];
+    }
+
+    static int toNumber(Genre genre) {
+        return NUMBERS_BY_ORDINAL[genre.ordinal()];
+    }
+
+    static Genre fromValue(MovieProtos.GenreValue value) {
+        if (value == MovieProtos.GenreValue.UNRECOGNIZED) {
+            throw new IllegalArgumentException("Unrecognized genre value");
+        }
+        return fromNumber(value.getNumber());
+    }
+
+    static Genre fromNumber(int number) {
+        if (number < 0 || number >= GENRES_BY_NUMBER.length || GENRES_BY_NUMBER[number] == null) {
+            throw new IllegalArgumentException("Unknown genre number: " + number);
+        }
+        return GENRES_BY_NUMBER[number];
+    }
+}
@@ -1,27 +1,51 @@
 package ch.frostnova.test.jackson.test.util.serializer;
 
+import ch.frostnova.test.jackson.test.util.util.ObjectPool;
+import ch.frostnova.test.jackson.test.util.util.ReusableByteArrayInputStream;
+import ch.frostnova.test.jackson.test.util.util.ReusableByteArrayOutputStream;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
 import com.caucho.hessian.io.AbstractDeserializer;
 import com.caucho.hessian.io.AbstractHessianInput;
 import com.caucho.hessian.io.AbstractHessianOutput;
 import com.caucho.hessian.io.AbstractSerializer;
+import com.caucho.hessian.io.Deserializer;
 import com.caucho.hessian.io.ExtSerializerFactory;
 import com.caucho.hessian.io.Hessian2Input;
 import com.caucho.hessian.io.Hessian2Output;
+import com.caucho.hessian.io.HessianProtocolException;
 import com.caucho.hessian.io.SerializerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 
 import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
 
+/**
+ * Hessian 2 serializer. In pooled mode, the Hessian streams and byte buffers are recycled through a bounded
+ * {@link ObjectPool} instead of being allocated per operation (see {@link Hessian2Output#init(OutputStream)} and
+ * {@link Hessian2Input#init(InputStream)}, which reset the reference tables). The pool does not bind state to threads,
+ * so pooled mode is safe for platform and virtual threads.
+ * <p>
+ * With a {@link StringPool}, deserialized strings (fields, map keys and values, string arrays) are deduplicated.
+ * <p>
+ * Time values use binary encodings: {@link Instant} as epoch milliseconds (long), {@link LocalDate} as epoch day (long,
+ * as the full date range exceeds int; Hessian writes small longs as compactly as ints) and {@link Duration} as a typed
+ * list of seconds (long) and nano adjustment (int), so durations also read back where their type is not declared (in
+ * collections and maps). The encoding version is told apart by the Hessian type of the value: payloads with the legacy
+ * ISO-8601 text encoding (strings) of dates and durations are still read.
+ */
 public class HessianSerializer<T> implements Serializer<T> {
 
-    private static final SerializerFactory serializerFactory = new SerializerFactory();
+    private static final SerializerFactory serializerFactory = new TimeValueSerializerFactory();
+    private static final ObjectPool<Streams> streamPool = new ObjectPool<>(Streams::new, ObjectPool.defaultMaxIdle());
+
     private final Class<T> type;
+    private final boolean pooled;
+    private final StringPool stringPool;
 
     static {
         var extSerializerFactory = new ExtSerializerFactory();
@@ -35,37 +59,187 @@ public class HessianSerializer<T> implements Serializer<T> {
     }
 
     public HessianSerializer(Class<T> type) {
+        this(type, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type   type to serialize, required
+     * @param pooled whether to recycle streams and buffers instead of allocating them per operation
+     */
+    public HessianSerializer(Class<T> type, boolean pooled) {
+        this(type, pooled, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type       type to serialize, required
+     * @param pooled     whether to recycle streams and buffers instead of allocating them per operation
+     * @param stringPool pool to deduplicate deserialized strings, optional
+     */
+    public HessianSerializer(Class<T> type, boolean pooled, StringPool stringPool) {
         this.type = type;
+        this.pooled = pooled;
+        this.stringPool = stringPool;
     }
 
     @Override
     public byte[] serialize(Object value) {
-        return unchecked(() -> {
-            var byteOut = new ByteArrayOutputStream();
-            var objectOut = new Hessian2Output(byteOut);
-            objectOut.setSerializerFactory(serializerFactory);
-            objectOut.writeObject(value);
-            objectOut.flush();
-            objectOut.close();
-            return byteOut.toByteArray();
+        return withStreams(streams -> {
+            var buffer = streams.buffer();
+            write(streams, value, buffer);
+            return buffer.toByteArray();
         });
     }
 
     @Override
     public T deserialize(byte[] serialized) {
-        return unchecked(() -> {
-            var byteIn = new ByteArrayInputStream(serialized);
-            var objectIn = new Hessian2Input(byteIn);
-            objectIn.setSerializerFactory(serializerFactory);
-            return type.cast(objectIn.readObject());
+        return withStreams(streams -> read(streams, streams.bytesIn().init(serialized)));
+    }
+
+    @Override
+    public void serialize(T value, OutputStream out) {
+        withStreams(streams -> {
+            write(streams, value, out);
+            return null;
         });
     }
 
+    @Override
+    public T deserialize(InputStream in) {
+        return withStreams(streams -> read(streams, in));
+    }
+
+    private void write(Streams streams, Object value, OutputStream out) throws IOException {
+        var objectOut = streams.output(out);
+        objectOut.writeObject(value);
+        objectOut.flush();
+    }
+
+    private T read(Streams streams, InputStream in) throws IOException {
+        return type.cast(streams.input(in, stringPool).readObject());
+    }
+
+    private <R> R withStreams(StreamsFunction<R> code) {
+        var streams = pooled ? streamPool.acquire() : new Streams();
+        // on failure, the streams are in an undefined state and are not returned to the pool
+        var result = unchecked(() -> code.apply(streams));
+        if (pooled) {
+            streams.clear();
+            streamPool.release(streams);
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface StreamsFunction<R> {
+        R apply(Streams streams) throws Exception;
+    }
+
+    /**
+     * Hessian streams and buffers for one operation, created on demand.
+     */
+    private static final class Streams {
+        private ReusableByteArrayOutputStream buffer;
+        private ReusableByteArrayInputStream bytesIn;
+        private Hessian2Output objectOut;
+        private PoolingHessian2Input objectIn;
+
+        ReusableByteArrayOutputStream buffer() {
+            if (buffer == null) {
+                buffer = new ReusableByteArrayOutputStream();
+            }
+            return buffer;
+        }
+
+        ReusableByteArrayInputStream bytesIn() {
+            if (bytesIn == null) {
+                bytesIn = new ReusableByteArrayInputStream();
+            }
+            return bytesIn;
+        }
+
+        Hessian2Output output(OutputStream out) {
+            if (objectOut == null) {
+                objectOut = new Hessian2Output();
+                objectOut.setSerializerFactory(serializerFactory);
+            }
+            objectOut.init(out);
+            return objectOut;
+        }
+
+        Hessian2Input input(InputStream in, StringPool stringPool) {
+            if (objectIn == null) {
+                objectIn = new PoolingHessian2Input();
+                objectIn.setSerializerFactory(serializerFactory);
+            }
+            objectIn.init(in);
+            objectIn.stringPool = stringPool;
+            return objectIn;
+        }
+
+        void clear() {
+            if (buffer != null) {
+                buffer.reset();
+            }
+            if (bytesIn != null) {
+                bytesIn.clear();
+            }
+            if (objectOut != null) {
+                objectOut.free();
+            }
+            if (objectIn != null) {
+                try {
+                    // init() keeps the read-ahead buffer: drop it, so the next read starts clean
+                    objectIn.resetBuffer();
+                } catch (IllegalStateException ex) {
+                    // unread trailing bytes, ignored as with a fresh Hessian2Input (the buffer is cleared anyway)
+                }
+                objectIn.free();
+                objectIn.stringPool = null;
+            }
+        }
+    }
+
+    /**
+     * Hessian input which passes the strings it reads through a string pool (if set). Field deserializers read strings
+     * with {@link #readString()}, collections and maps with {@link #readObject()}.
+     */
+    private static final class PoolingHessian2Input extends Hessian2Input {
+        private StringPool stringPool;
+
+        @Override
+        public String readString() throws IOException {
+            return intern(super.readString());
+        }
+
+        @Override
+        public Object readObject() throws IOException {
+            return intern(super.readObject());
+        }
+
+        @Override
+        public Object readObject(Class cl) throws IOException {
+            return intern(super.readObject(cl));
+        }
+
+        private <V> V intern(V value) {
+            if (stringPool != null && value instanceof String string) {
+                @SuppressWarnings("unchecked")
+                var pooled = (V) stringPool.intern(string);
+                return pooled;
+            }
+            return value;
+        }
+    }
+
     public static class InstantSerializer extends AbstractSerializer {
         @Override
         public void writeObject(Object obj, AbstractHessianOutput out) throws IOException {
             if (obj instanceof Instant instant) {
-                out.writeObject(instant.toEpochMilli());
+                out.writeLong(instant.toEpochMilli());
             } else {
                 out.writeNull();
             }
@@ -83,21 +257,31 @@ public class HessianSerializer<T> implements Serializer<T> {
         }
     }
 
+    /**
+     * Writes dates as epoch day (Hessian long).
+     */
     public static class LocalDateSerializer extends AbstractSerializer {
         @Override
         public void writeObject(Object obj, AbstractHessianOutput out) throws IOException {
             if (obj instanceof LocalDate localDate) {
-                out.writeObject(localDate.toString());
+                out.writeLong(localDate.toEpochDay());
             } else {
                 out.writeNull();
             }
         }
     }
 
+    /**
+     * Reads dates written as epoch day (Hessian long, or int), or in the legacy ISO-8601 text encoding (Hessian
+     * string).
+     */
     public static class LocalDateDeserializer extends AbstractDeserializer {
         @Override
         public Object readObject(AbstractHessianInput in) throws IOException {
             Object obj = in.readObject();
+            if (obj instanceof Long || obj instanceof Integer) {
+                return LocalDate.ofEpochDay(((Number) obj).longValue());
+            }
             if (obj instanceof String string) {
                 return LocalDate.parse(string);
             }
@@ -105,25 +289,68 @@ public class HessianSerializer<T> implements Serializer<T> {
         }
     }
 
+    /**
+     * Writes durations as a fixed-length list of type {@value #TYPE}: seconds (Hessian long) and nano adjustment
+     * (Hessian int, 0 to 999'999'999). The list is a single Hessian value, which keeps the stream in sync when the
+     * duration is read without its type (readers without the {@link DurationDeserializer} get a list of the two).
+     */
     public static class DurationSerializer extends AbstractSerializer {
+
+        /**
+         * Hessian type of encoded durations, short instead of the class name, as it is written once per payload.
+         */
+        public static final String TYPE = "Duration";
+
         @Override
         public void writeObject(Object obj, AbstractHessianOutput out) throws IOException {
             if (obj instanceof Duration duration) {
-                out.writeObject(duration.toString());
+                out.writeListBegin(2, TYPE);
+                out.writeLong(duration.getSeconds());
+                out.writeInt(duration.getNano());
             } else {
                 out.writeNull();
             }
         }
     }
 
+    /**
+     * Reads durations written as a list of seconds and nano adjustment (see {@link DurationSerializer}), or in the
+     * legacy ISO-8601 text encoding (Hessian string).
+     */
     public static class DurationDeserializer extends AbstractDeserializer {
+        @Override
+        public Class<?> getType() {
+            return Duration.class;
+        }
+
+        @Override
+        public Object readLengthList(AbstractHessianInput in, int length) throws IOException {
+            if (length != 2) {
+                throw new HessianProtocolException("Illegal duration list length: " + length);
+            }
+            return Duration.ofSeconds(in.readLong(), in.readInt());
+        }
+
         @Override
         public Object readObject(AbstractHessianInput in) throws IOException {
             Object obj = in.readObject();
             if (obj instanceof String string) {
                 return Duration.parse(string);
             }
-            return null;
+            return obj instanceof Duration ? obj : null;
+        }
+    }
+
+    /**
+     * Serializer factory which also resolves the Hessian type of durations (see {@link DurationSerializer#TYPE}),
+     * for lists read without a declared type.
+     */
+    private static final class TimeValueSerializerFactory extends SerializerFactory {
+        private final Deserializer durationDeserializer = new DurationDeserializer();
+
+        @Override
+        public Deserializer getDeserializer(String type) throws HessianProtocolException {
+            return DurationSerializer.TYPE.equals(type) ? durationDeserializer : super.getDeserializer(type);
         }
     }
 }
@@ -0,0 +1,186 @@
+package ch.frostnova.test.jackson.test.util.serializer;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Serializer decorator recording the heap allocation and CPU time per operation of the wrapped serializer, using the
+ * per-thread counters of {@link com.sun.management.ThreadMXBean}. All overloads (byte array, stream and buffer) are
+ * recorded, separately for serialization and deserialization. Thread-safe, and cheap enough for production use (two
+ * counter reads before and after each operation).
+ * <p>
+ * On runtimes which don't support thread allocation or CPU time accounting, only the operations are counted and the
+ * allocated bytes and CPU time remain zero (see {@link #isAllocationSupported()}, {@link #isCpuTimeSupported()}).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class InstrumentedSerializer<T> implements Serializer<T> {
+
+    private static final com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+    private static final boolean allocationSupported = threadMXBean != null && enableAllocation();
+    private static final boolean cpuTimeSupported = threadMXBean != null && enableCpuTime();
+
+    private final Serializer<T> delegate;
+    private final Counters serializeCounters = new Counters();
+    private final Counters deserializeCounters = new Counters();
+
+    /**
+     * Constructor
+     *
+     * @param delegate serializer to instrument, required
+     */
+    public InstrumentedSerializer(Serializer<T> delegate) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate is required");
+        }
+        this.delegate = delegate;
+    }
+
+    public static boolean isAllocationSupported() {
+        return allocationSupported;
+    }
+
+    public static boolean isCpuTimeSupported() {
+        return cpuTimeSupported;
+    }
+
+    public Serializer<T> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Statistics recorded so far for an operation.
+     *
+     * @param operation operation, required
+     * @return statistics
+     */
+    public Statistics getStatistics(Operation operation) {
+        return (operation == Operation.SERIALIZE ? serializeCounters : deserializeCounters).snapshot();
+    }
+
+    /**
+     * Reset all recorded statistics, e.g. after warmup.
+     */
+    public void reset() {
+        serializeCounters.reset();
+        deserializeCounters.reset();
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        return record(serializeCounters, () -> delegate.serialize(value));
+    }
+
+    @Override
+    public T deserialize(byte[] serialized) {
+        return record(deserializeCounters, () -> delegate.deserialize(serialized));
+    }
+
+    @Override
+    public void serialize(T value, OutputStream out) {
+        record(serializeCounters, () -> {
+            delegate.serialize(value, out);
+            return null;
+        });
+    }
+
+    @Override
+    public T deserialize(InputStream in) {
+        return record(deserializeCounters, () -> delegate.deserialize(in));
+    }
+
+    @Override
+    public void serialize(T value, ByteBuffer buffer) {
+        record(serializeCounters, () -> {
+            delegate.serialize(value, buffer);
+            return null;
+        });
+    }
+
+    @Override
+    public T deserialize(ByteBuffer buffer) {
+        return record(deserializeCounters, () -> delegate.deserialize(buffer));
+    }
+
+    private static <R> R record(Counters counters, Supplier<R> operation) {
+        var allocatedBefore = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() : 0;
+        var cpuTimeBefore = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : 0;
+        try {
+            return operation.get();
+        } finally {
+            var cpuTime = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() - cpuTimeBefore : 0;
+            var allocated = allocationSupported ? threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore : 0;
+            counters.add(allocated, cpuTime);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+    }
+
+    private static boolean enableAllocation() {
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    private static boolean enableCpuTime() {
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            return false;
+        }
+        threadMXBean.setThreadCpuTimeEnabled(true);
+        return true;
+    }
+
+    public enum Operation {
+        SERIALIZE, DESERIALIZE
+    }
+
+    /**
+     * Recorded statistics of an operation.
+     *
+     * @param operations     number of operations (including failed ones)
+     * @param allocatedBytes total heap bytes allocated by the operations
+     * @param cpuTimeNanos   total CPU time of the operations, in nanoseconds
+     */
+    public record Statistics(long operations, long allocatedBytes, long cpuTimeNanos) {
+
+        public double allocatedBytesPerOperation() {
+            return operations > 0 ? (double) allocatedBytes / operations : 0;
+        }
+
+        public double cpuTimeMicrosPerOperation() {
+            return operations > 0 ? cpuTimeNanos * 0.001 / operations : 0;
+        }
+    }
+
+    private static class Counters {
+
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder cpuTimeNanos = new LongAdder();
+
+        void add(long allocated, long cpuTime) {
+            operations.increment();
+            allocatedBytes.add(allocated);
+            cpuTimeNanos.add(cpuTime);
+        }
+
+        Statistics snapshot() {
+            return new Statistics(operations.sum(), allocatedBytes.sum(), cpuTimeNanos.sum());
+        }
+
+        void reset() {
+            operations.reset();
+            allocatedBytes.reset();
+            cpuTimeNanos.reset();
+        }
+    }
+}
@@ -1,27 +1,98 @@
 package ch.frostnova.test.jackson.test.util.serializer;
 
+import ch.frostnova.test.jackson.test.util.converter.StringPoolModule;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import com.fasterxml.jackson.core.FormatSchema;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+import static com.fasterxml.jackson.core.JsonParser.Feature.AUTO_CLOSE_SOURCE;
 import static java.util.Objects.requireNonNull;
 
+/**
+ * Serializer for Jackson formats. The typed reader and writer are resolved once and reused (they are immutable and
+ * thread-safe), so the root type is not looked up on every call.
+ */
 public class JacksonSerializer<T> implements Serializer<T> {
 
-    private final ObjectMapper objectMapper;
-    private final Class<T> type;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final ObjectWriter streamWriter;
+    private final ObjectReader streamReader;
 
     public JacksonSerializer(ObjectMapper objectMapper, Class<T> type) {
-        this.objectMapper = requireNonNull(objectMapper);
-        this.type = requireNonNull(type);
+        this(objectMapper, type, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper object mapper, required
+     * @param type         type to serialize, required
+     * @param schema       schema, required for schema-based formats (e.g. Avro), optional otherwise
+     */
+    public JacksonSerializer(ObjectMapper objectMapper, Class<T> type, FormatSchema schema) {
+        this(objectMapper, type, schema, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper object mapper, required
+     * @param type         type to serialize, required
+     * @param schema       schema, required for schema-based formats (e.g. Avro), optional otherwise
+     * @param stringPool   pool to deduplicate deserialized strings, optional. The pool is registered on a copy of the
+     *                     object mapper (see {@link StringPoolModule}).
+     */
+    public JacksonSerializer(ObjectMapper objectMapper, Class<T> type, FormatSchema schema, StringPool stringPool) {
+        requireNonNull(objectMapper);
+        requireNonNull(type);
+        if (stringPool != null) {
+            objectMapper = objectMapper.copy().registerModule(new StringPoolModule(stringPool));
+        }
+        this.writer = objectMapper.writerFor(type).with(schema);
+        this.reader = objectMapper.readerFor(type).with(schema);
+        this.streamWriter = writer.without(AUTO_CLOSE_TARGET);
+        this.streamReader = reader.without(AUTO_CLOSE_SOURCE);
     }
 
     @Override
     public byte[] serialize(T value) {
-        return unchecked(() -> objectMapper.writeValueAsBytes(value));
+        return unchecked(() -> writer.writeValueAsBytes(value));
     }
 
     @Override
     public T deserialize(byte[] serialized) {
-        return unchecked(() -> objectMapper.readValue(serialized, type));
+        return unchecked(() -> reader.readValue(serialized));
+    }
+
+    @Override
+    public void serialize(T value, OutputStream out) {
+        unchecked(() -> streamWriter.writeValue(out, value));
+    }
+
+    @Override
+    public T deserialize(InputStream in) {
+        return unchecked(() -> streamReader.readValue(in));
+    }
+
+    @Override
+    public T deserialize(ByteBuffer buffer) {
+        if (!buffer.hasArray()) {
+            return Serializer.super.deserialize(buffer);
+        }
+        // heap buffer: parse the backing array in place
+        var offset = buffer.arrayOffset() + buffer.position();
+        var length = buffer.remaining();
+        T value = unchecked(() -> reader.readValue(buffer.array(), offset, length));
+        buffer.position(buffer.limit());
+        return value;
     }
-}
\ No newline at end of file
+}
@@ -1,38 +1,133 @@
 package ch.frostnova.test.jackson.test.util.serializer;
 
+import ch.frostnova.test.jackson.test.util.util.ObjectPool;
+import ch.frostnova.test.jackson.test.util.util.ReusableByteArrayInputStream;
+import ch.frostnova.test.jackson.test.util.util.ReusableByteArrayOutputStream;
+
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.io.OutputStream;
 
 import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
 
+/**
+ * Java serialization. In pooled mode, the output side (byte buffer and {@link ObjectOutputStream}) and the input byte
+ * stream are recycled through a bounded {@link ObjectPool}. The {@link ObjectInputStream} is still created per
+ * operation: it reads the stream header in its constructor and cannot be rewound to a new payload.
+ */
 public class JavaClassicSerializer<T> implements Serializer<T> {
 
+    private static final ObjectPool<Streams> streamPool = new ObjectPool<>(Streams::new, ObjectPool.defaultMaxIdle());
+
     private final Class<T> type;
+    private final boolean pooled;
 
     public JavaClassicSerializer(Class<T> type) {
+        this(type, false);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param type   type to serialize, required
+     * @param pooled whether to recycle streams and buffers instead of allocating them per operation
+     */
+    public JavaClassicSerializer(Class<T> type, boolean pooled) {
         this.type = type;
+        this.pooled = pooled;
     }
 
     @Override
     public byte[] serialize(Object value) {
-        return unchecked(() -> {
+        if (!pooled) {
             var byteOut = new ByteArrayOutputStream();
-            var objectOut = new ObjectOutputStream(byteOut);
-            objectOut.writeObject(value);
-            objectOut.flush();
-            objectOut.close();
+            write(value, byteOut);
             return byteOut.toByteArray();
-        });
+        }
+        var streams = streamPool.acquire();
+        var result = unchecked(() -> streams.write(value).toByteArray());
+        streams.clear();
+        streamPool.release(streams);
+        return result;
     }
 
     @Override
     public T deserialize(byte[] serialized) {
+        if (!pooled) {
+            return deserialize(new ByteArrayInputStream(serialized));
+        }
+        var streams = streamPool.acquire();
+        var result = deserialize(streams.bytesIn.init(serialized));
+        streams.clear();
+        streamPool.release(streams);
+        return result;
+    }
+
+    @Override
+    public void serialize(T value, OutputStream out) {
+        if (!pooled) {
+            write(value, out);
+            return;
+        }
+        var streams = streamPool.acquire();
+        unchecked(() -> {
+            streams.write(value).writeTo(out);
+            out.flush();
+        });
+        streams.clear();
+        streamPool.release(streams);
+    }
+
+    @Override
+    public T deserialize(InputStream in) {
         return unchecked(() -> {
-            var byteIn = new ByteArrayInputStream(serialized);
-            var objectIn = new ObjectInputStream(byteIn);
+            var objectIn = new ObjectInputStream(in);
             return type.cast(objectIn.readObject());
         });
     }
+
+    private void write(Object value, OutputStream out) {
+        unchecked(() -> {
+            var objectOut = new ObjectOutputStream(out);
+            objectOut.writeObject(value);
+            objectOut.flush();
+        });
+    }
+
+    /**
+     * Reusable streams. Each payload written is a complete stream (header and object), byte-identical to the output of
+     * a fresh {@link ObjectOutputStream}.
+     */
+    private static final class Streams {
+
+        private static final byte[] STREAM_HEADER = {
+                (byte) (ObjectStreamConstants.STREAM_MAGIC >> 8), (byte) ObjectStreamConstants.STREAM_MAGIC,
+                (byte) (ObjectStreamConstants.STREAM_VERSION >> 8), (byte) ObjectStreamConstants.STREAM_VERSION};
+
+        private final ReusableByteArrayOutputStream buffer = new ReusableByteArrayOutputStream();
+        private final ReusableByteArrayInputStream bytesIn = new ReusableByteArrayInputStream();
+        private final ObjectOutputStream objectOut = unchecked(() -> new ObjectOutputStream(buffer));
+
+        ReusableByteArrayOutputStream write(Object value) throws IOException {
+            // forget all handles (class descriptors and objects) of previous payloads: reset() emits a TC_RESET
+            // marker, which is discarded together with the header written by the constructor
+            objectOut.reset();
+            objectOut.flush();
+            buffer.reset();
+            buffer.write(STREAM_HEADER);
+            objectOut.writeObject(value);
+            objectOut.flush();
+            return buffer;
+        }
+
+        void clear() {
+            buffer.reset();
+            bytesIn.clear();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package ch.frostnova.test.jackson.test.util.serializer;
+
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufCodec;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+
+/**
+ * Protobuf serializer using the direct {@link MovieProtobufCodec}, wire-compatible with {@link MovieProtobufSerializer}.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class MovieProtobufCodecSerializer implements Serializer<Movie> {
+
+    private final StringPool stringPool;
+
+    public MovieProtobufCodecSerializer() {
+        this(null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param stringPool pool to deduplicate deserialized strings, optional
+     */
+    public MovieProtobufCodecSerializer(StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
+    @Override
+    public byte[] serialize(Movie value) {
+        var result = new byte[MovieProtobufCodec.computeSize(value)];
+        unchecked(() -> {
+            var codedOut = CodedOutputStream.newInstance(result);
+            MovieProtobufCodec.write(value, codedOut);
+            codedOut.checkNoSpaceLeft();
+        });
+        return result;
+    }
+
+    @Override
+    public Movie deserialize(byte[] serialized) {
+        return unchecked(() -> MovieProtobufCodec.read(CodedInputStream.newInstance(serialized), stringPool));
+    }
+
+    @Override
+    public void serialize(Movie value, OutputStream out) {
+        unchecked(() -> {
+            var codedOut = CodedOutputStream.newInstance(out);
+            MovieProtobufCodec.write(value, codedOut);
+            codedOut.flush();
+            out.flush();
+        });
+    }
+
+    @Override
+    public Movie deserialize(InputStream in) {
+        return unchecked(() -> MovieProtobufCodec.read(CodedInputStream.newInstance(in), stringPool));
+    }
+
+    @Override
+    public void serialize(Movie value, ByteBuffer buffer) {
+        if (MovieProtobufCodec.computeSize(value) > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        unchecked(() -> {
+            var codedOut = CodedOutputStream.newInstance(buffer);
+            MovieProtobufCodec.write(value, codedOut);
+            codedOut.flush();
+        });
+    }
+
+    @Override
+    public Movie deserialize(ByteBuffer buffer) {
+        var value = unchecked(() -> MovieProtobufCodec.read(CodedInputStream.newInstance(buffer), stringPool));
+        buffer.position(buffer.limit());
+        return value;
+    }
+}
@@ -3,12 +3,34 @@ package ch.frostnova.test.jackson.test.util.serializer;
 import ch.frostnova.test.jackson.test.proto.MovieProtos;
 import ch.frostnova.test.jackson.test.util.domain.Movie;
 import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufMapper;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 
 import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
 
 public class MovieProtobufSerializer implements Serializer<Movie> {
 
     private final MovieProtobufMapper mapper = MovieProtobufMapper.INSTANCE;
+    private final StringPool stringPool;
+
+    public MovieProtobufSerializer() {
+        this(null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param stringPool pool to deduplicate deserialized strings, optional
+     */
+    public MovieProtobufSerializer(StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
 
     @Override
     public byte[] serialize(Movie value) {
@@ -18,6 +40,43 @@ public class MovieProtobufSerializer implements Serializer<Movie> {
 
     @Override
     public Movie deserialize(byte[] serialized) {
-        return unchecked(() -> mapper.fromProto(MovieProtos.MovieMessage.parseFrom(serialized)));
+        return unchecked(() -> mapper.fromProto(MovieProtos.MovieMessage.parseFrom(serialized), stringPool));
+    }
+
+    @Override
+    public void serialize(Movie value, OutputStream out) {
+        var protoMessage = mapper.toProto(value);
+        unchecked(() -> {
+            var codedOut = CodedOutputStream.newInstance(out);
+            protoMessage.writeTo(codedOut);
+            codedOut.flush();
+            out.flush();
+        });
+    }
+
+    @Override
+    public Movie deserialize(InputStream in) {
+        return unchecked(() -> mapper.fromProto(MovieProtos.MovieMessage.parseFrom(CodedInputStream.newInstance(in)), stringPool));
+    }
+
+    @Override
+    public void serialize(Movie value, ByteBuffer buffer) {
+        var protoMessage = mapper.toProto(value);
+        if (protoMessage.getSerializedSize() > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        unchecked(() -> {
+            // writes straight into the (heap or direct) buffer and advances its position on flush
+            var codedOut = CodedOutputStream.newInstance(buffer);
+            protoMessage.writeTo(codedOut);
+            codedOut.flush();
+        });
+    }
+
+    @Override
+    public Movie deserialize(ByteBuffer buffer) {
+        var value = unchecked(() -> mapper.fromProto(MovieProtos.MovieMessage.parseFrom(CodedInputStream.newInstance(buffer)), stringPool));
+        buffer.position(buffer.limit());
+        return value;
     }
 }
@@ -1,8 +1,56 @@
 package ch.frostnova.test.jackson.test.util.serializer;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 public interface Serializer<T> {
 
     byte[] serialize(T value);
 
     T deserialize(byte[] serialized);
+
+    /**
+     * Serialize a value to a stream. The stream is flushed, but not closed.
+     *
+     * @param value value
+     * @param out   output stream, required
+     */
+    void serialize(T value, OutputStream out);
+
+    /**
+     * Deserialize a value from a stream. The stream is not closed, but may be consumed beyond the value (read to its
+     * end, or read ahead into a buffer): it cannot be used to read further values afterwards.
+     *
+     * @param in input stream, required
+     * @return value
+     */
+    T deserialize(InputStream in);
+
+    /**
+     * Serialize a value into a buffer, starting at its position. The position is advanced by the number of bytes
+     * written.
+     *
+     * @param value  value
+     * @param buffer buffer (heap or direct), required
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining (may be wrapped)
+     */
+    default void serialize(T value, ByteBuffer buffer) {
+        serialize(value, new ByteBufferBackedOutputStream(buffer));
+    }
+
+    /**
+     * Deserialize a value from the remaining bytes of a buffer (position to limit). All remaining bytes are consumed
+     * (the position may be advanced up to the limit, not just past the value), so the buffer must only contain the
+     * value.
+     *
+     * @param buffer buffer (heap or direct), required
+     * @return value
+     */
+    default T deserialize(ByteBuffer buffer) {
+        return deserialize(new ByteBufferBackedInputStream(buffer));
+    }
 }
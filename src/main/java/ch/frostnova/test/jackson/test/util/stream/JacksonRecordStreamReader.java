@@ -0,0 +1,50 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+import static com.fasterxml.jackson.core.JsonParser.Feature.AUTO_CLOSE_SOURCE;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record stream reader for Jackson formats, reading a sequence of root values (lines, documents or concatenated
+ * values) on demand.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class JacksonRecordStreamReader<T> implements RecordStreamReader<T> {
+
+    private final MappingIterator<T> iterator;
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper object mapper, required
+     * @param type         record type, required
+     * @param in           source stream, required
+     */
+    public JacksonRecordStreamReader(ObjectMapper objectMapper, Class<T> type, InputStream in) {
+        requireNonNull(in);
+        var reader = objectMapper.readerFor(requireNonNull(type)).without(AUTO_CLOSE_SOURCE);
+        this.iterator = unchecked(() -> reader.readValues(in));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        unchecked(iterator::close);
+    }
+}
@@ -0,0 +1,87 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.OutputStream;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
+import static com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE;
+import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record stream writer for Jackson formats, writing a sequence of root values: one line per record for JSON (with
+ * {@link #LINE_SEPARATED}), documents for YAML, concatenated values for binary formats such as CBOR.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class JacksonRecordStreamWriter<T> implements RecordStreamWriter<T> {
+
+    /**
+     * Record terminator for newline-delimited text formats.
+     */
+    public static final String LINE_SEPARATED = "\n";
+
+    private final OutputStream out;
+    private final ObjectWriter writer;
+    private final byte[] terminator;
+    private SequenceWriter sequenceWriter;
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper object mapper, required
+     * @param type         record type, required
+     * @param out          target stream, required
+     * @param terminator   terminator written after each record, optional (no terminator if null)
+     */
+    public JacksonRecordStreamWriter(ObjectMapper objectMapper, Class<T> type, OutputStream out, String terminator) {
+        this.out = requireNonNull(out);
+        this.terminator = terminator != null ? terminator.getBytes(UTF_8) : null;
+        this.writer = objectMapper.writerFor(requireNonNull(type))
+                .without(INDENT_OUTPUT)
+                .without(FLUSH_AFTER_WRITE_VALUE)
+                .without(AUTO_CLOSE_TARGET)
+                .withRootValueSeparator(terminator);
+    }
+
+    @Override
+    public void write(T value) {
+        unchecked(() -> {
+            // created on the first record: some formats (YAML) cannot finish a stream without any document
+            if (sequenceWriter == null) {
+                sequenceWriter = writer.writeValues(out);
+            }
+            sequenceWriter.write(value);
+        });
+    }
+
+    @Override
+    public void flush() {
+        unchecked(() -> {
+            if (sequenceWriter != null) {
+                sequenceWriter.flush();
+            }
+            out.flush();
+        });
+    }
+
+    @Override
+    public void close() {
+        unchecked(() -> {
+            if (sequenceWriter != null) {
+                sequenceWriter.close();
+                // the root value separator is only written between records, add the one after the last record
+                if (terminator != null) {
+                    out.write(terminator);
+                }
+            }
+            out.flush();
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufCodec;
+import com.google.protobuf.CodedInputStream;
+
+import java.io.InputStream;
+import java.util.NoSuchElementException;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record stream reader for length-delimited protobuf movies (as written by <code>MessageLite.writeDelimitedTo</code>).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class MovieProtobufRecordStreamReader implements RecordStreamReader<Movie> {
+
+    private final CodedInputStream codedIn;
+
+    /**
+     * Constructor
+     *
+     * @param in source stream, required
+     */
+    public MovieProtobufRecordStreamReader(InputStream in) {
+        this.codedIn = CodedInputStream.newInstance(requireNonNull(in));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return unchecked(() -> !codedIn.isAtEnd());
+    }
+
+    @Override
+    public Movie next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return unchecked(() -> {
+            // the size limit applies per record, not to the whole stream
+            codedIn.resetSizeCounter();
+            var limit = codedIn.pushLimit(codedIn.readRawVarint32());
+            var movie = MovieProtobufCodec.read(codedIn);
+            codedIn.popLimit(limit);
+            return movie;
+        });
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, the source stream is not closed
+    }
+}
@@ -0,0 +1,61 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufCodec;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.OutputStream;
+
+import static ch.frostnova.test.jackson.test.util.util.Unchecked.unchecked;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Record stream writer for length-delimited protobuf movies (varint size prefix followed by the message, as written by
+ * <code>MessageLite.writeDelimitedTo</code>).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public class MovieProtobufRecordStreamWriter implements RecordStreamWriter<Movie> {
+
+    private final OutputStream out;
+    private final CodedOutputStream codedOut;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param out target stream, required
+     */
+    public MovieProtobufRecordStreamWriter(OutputStream out) {
+        this.out = requireNonNull(out);
+        this.codedOut = CodedOutputStream.newInstance(out);
+    }
+
+    @Override
+    public void write(Movie value) {
+        if (closed) {
+            throw new IllegalStateException("writer is closed");
+        }
+        unchecked(() -> {
+            codedOut.writeUInt32NoTag(MovieProtobufCodec.computeSize(value));
+            MovieProtobufCodec.write(value, codedOut);
+        });
+    }
+
+    @Override
+    public void flush() {
+        unchecked(() -> {
+            codedOut.flush();
+            out.flush();
+        });
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a sequence of records from a stream lazily, one at a time.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public interface RecordStreamReader<T> extends Iterator<T>, Closeable {
+
+    /**
+     * Lazy stream over the remaining records. Closing the stream closes this reader.
+     *
+     * @return stream of records
+     */
+    default Stream<T> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Release the reader. The source stream is not closed.
+     */
+    @Override
+    void close();
+}
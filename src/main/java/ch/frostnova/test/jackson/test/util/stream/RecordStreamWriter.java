@@ -0,0 +1,49 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import java.io.Closeable;
+import java.util.stream.Stream;
+
+/**
+ * Writes a sequence of records to a stream, one at a time.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public interface RecordStreamWriter<T> extends Closeable {
+
+    /**
+     * Write a record.
+     *
+     * @param value record, required
+     */
+    void write(T value);
+
+    /**
+     * Write all records.
+     *
+     * @param values records, required
+     */
+    default void writeAll(Iterable<? extends T> values) {
+        values.forEach(this::write);
+    }
+
+    /**
+     * Write all records, consuming the stream in order.
+     *
+     * @param values records, required
+     */
+    default void writeAll(Stream<? extends T> values) {
+        values.forEachOrdered(this::write);
+    }
+
+    /**
+     * Flush the records written so far to the target stream.
+     */
+    void flush();
+
+    /**
+     * Finish and flush the record stream. The target stream is not closed.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,70 @@
+package ch.frostnova.test.jackson.test.util.stream;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Factory for record stream writers and readers.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class RecordStreams {
+
+    public enum Format {
+        NDJSON, // newline-delimited JSON, one record per line
+        CBOR, // concatenated CBOR values (CBOR sequence, https://www.rfc-editor.org/info/rfc8742)
+        YAML, // YAML multi-document stream
+        PROTOBUF // length-delimited protobuf messages (Movie only)
+    }
+
+    private RecordStreams() {
+
+    }
+
+    /**
+     * Create a record stream writer.
+     *
+     * @param format format, required
+     * @param type   record type, required
+     * @param out    target stream, required (not closed by the writer)
+     * @return writer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RecordStreamWriter<T> writer(Format format, Class<T> type, OutputStream out) {
+        return switch (format) {
+            case NDJSON -> new JacksonRecordStreamWriter<>(ObjectMappers.json(), type, out, JacksonRecordStreamWriter.LINE_SEPARATED);
+            case CBOR -> new JacksonRecordStreamWriter<>(ObjectMappers.cbor(), type, out, null);
+            case YAML -> new JacksonRecordStreamWriter<>(ObjectMappers.yaml(), type, out, null);
+            case PROTOBUF -> (RecordStreamWriter<T>) new MovieProtobufRecordStreamWriter(requireMovie(type, out));
+        };
+    }
+
+    /**
+     * Create a record stream reader.
+     *
+     * @param format format, required
+     * @param type   record type, required
+     * @param in     source stream, required (not closed by the reader)
+     * @return reader
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RecordStreamReader<T> reader(Format format, Class<T> type, InputStream in) {
+        return switch (format) {
+            case NDJSON -> new JacksonRecordStreamReader<>(ObjectMappers.json(), type, in);
+            case CBOR -> new JacksonRecordStreamReader<>(ObjectMappers.cbor(), type, in);
+            case YAML -> new JacksonRecordStreamReader<>(ObjectMappers.yaml(), type, in);
+            case PROTOBUF -> (RecordStreamReader<T>) new MovieProtobufRecordStreamReader(requireMovie(type, in));
+        };
+    }
+
+    private static <S> S requireMovie(Class<?> type, S stream) {
+        if (type != Movie.class) {
+            throw new IllegalArgumentException("Protobuf record streams are only supported for " + Movie.class.getSimpleName());
+        }
+        return stream;
+    }
+}
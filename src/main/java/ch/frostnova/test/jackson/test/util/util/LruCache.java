@@ -0,0 +1,105 @@
+package ch.frostnova.test.jackson.test.util.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache with least-recently-used eviction and hit/miss statistics. Values are loaded outside of
+ * the lock (concurrent misses on the same key may load more than once, the first stored value wins). Null values and
+ * failed loads are not cached.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class LruCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, V> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param maxSize maximum number of entries
+     */
+    public LruCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the cached value for a key, or load and cache it.
+     *
+     * @param key    key, required
+     * @param loader loads the value for a key on a cache miss, required
+     * @return value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value;
+        synchronized (entries) {
+            value = entries.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        value = loader.apply(key);
+        if (value != null) {
+            synchronized (entries) {
+                var existing = entries.putIfAbsent(key, value);
+                if (existing != null) {
+                    value = existing;
+                }
+            }
+        }
+        return value;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public Statistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size, maxSize);
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits      number of lookups served from the cache
+     * @param misses    number of lookups which had to load the value
+     * @param evictions number of entries evicted (least recently used)
+     * @param size      current number of entries
+     * @param maxSize   maximum number of entries
+     */
+    public record Statistics(long hits, long misses, long evictions, int size, int maxSize) {
+
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0;
+        }
+    }
+}
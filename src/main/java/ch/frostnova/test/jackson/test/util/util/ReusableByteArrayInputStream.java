@@ -0,0 +1,39 @@
+package ch.frostnova.test.jackson.test.util.util;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Byte array input stream that can be pointed at another array and reused.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class ReusableByteArrayInputStream extends ByteArrayInputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    public ReusableByteArrayInputStream() {
+        super(EMPTY);
+    }
+
+    /**
+     * Read from the given data next.
+     *
+     * @param data data, required
+     * @return this stream
+     */
+    public synchronized ReusableByteArrayInputStream init(byte[] data) {
+        buf = data;
+        pos = 0;
+        mark = 0;
+        count = data.length;
+        return this;
+    }
+
+    /**
+     * Release the reference to the data.
+     */
+    public void clear() {
+        init(EMPTY);
+    }
+}
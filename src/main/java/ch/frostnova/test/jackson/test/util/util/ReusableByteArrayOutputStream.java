@@ -0,0 +1,91 @@
+package ch.frostnova.test.jackson.test.util.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable, unsynchronized byte array output stream that can be reset and reused. Buffers that grew beyond
+ * {@link #MAX_RETAINED_CAPACITY} are released on {@link #reset()}, so a single large payload does not pin memory in a
+ * pool.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class ReusableByteArrayOutputStream extends OutputStream {
+
+    public static final int INITIAL_CAPACITY = 1024;
+    public static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(size + length);
+        System.arraycopy(data, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Discard the content, keeping the buffer unless it grew beyond {@link #MAX_RETAINED_CAPACITY}.
+     */
+    public void reset() {
+        size = 0;
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copy of the content.
+     *
+     * @return content
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Write the content to another stream (without copying).
+     *
+     * @param out target stream
+     * @throws IOException on I/O errors
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /**
+     * Put the content into a buffer (without intermediate copies).
+     *
+     * @param target target buffer
+     * @throws java.nio.BufferOverflowException if the target has not enough space remaining
+     */
+    public void writeTo(ByteBuffer target) {
+        target.put(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("buffer too large");
+        }
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
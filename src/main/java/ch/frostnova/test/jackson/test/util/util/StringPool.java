@@ -0,0 +1,130 @@
+package ch.frostnova.test.jackson.test.util.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe pool of canonical strings, to deduplicate strings which repeat across deserialized values (such
+ * as metadata keys, rating sources or names). Unlike {@link String#intern()}, the pool has a fixed capacity and can be
+ * discarded with the values.
+ * <p>
+ * The pool is a two-way set-associative table indexed by the string hash: a lookup checks the two slots of its set, a
+ * miss stores the string in the first slot and moves the previous entry to the second slot, evicting its entry.
+ * Lookups and updates are lock-free; concurrent updates of the same set may drop an entry, which only costs a later
+ * miss. Strings longer than the maximum length are not pooled (returned as they are).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class StringPool {
+
+    /**
+     * Default maximum length of pooled strings: longer strings (such as descriptions) rarely repeat.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final int maxLength;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public StringPool(int capacity) {
+        this(capacity, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacity  maximum number of pooled strings (rounded up to a power of two, at least 2)
+     * @param maxLength maximum length of pooled strings
+     */
+    public StringPool(int capacity, int maxLength) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative");
+        }
+        var size = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 2;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Get the canonical instance of a string: the pooled instance if an equal string is pooled, otherwise the string
+     * itself (which is then pooled).
+     *
+     * @param value string, optional
+     * @return canonical string, null if the value is null
+     */
+    public String intern(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+        var hash = value.hashCode();
+        var index = (hash ^ (hash >>> 16)) & mask;
+        var first = slots.getAcquire(index);
+        if (first != null && first.hashCode() == hash && first.equals(value)) {
+            hits.increment();
+            return first;
+        }
+        var second = slots.getAcquire(index + 1);
+        if (second != null && second.hashCode() == hash && second.equals(value)) {
+            hits.increment();
+            return second;
+        }
+        misses.increment();
+        if (first != null) {
+            if (second != null) {
+                evictions.increment();
+            }
+            slots.setRelease(index + 1, first);
+        }
+        slots.setRelease(index, value);
+        return value;
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public void clear() {
+        for (var i = 0; i < slots.length(); i++) {
+            slots.setRelease(i, null);
+        }
+    }
+
+    public Statistics getStatistics() {
+        var size = 0;
+        for (var i = 0; i < slots.length(); i++) {
+            if (slots.getAcquire(i) != null) {
+                size++;
+            }
+        }
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size, slots.length());
+    }
+
+    /**
+     * Pool statistics.
+     *
+     * @param hits      number of lookups which returned a pooled string
+     * @param misses    number of lookups which pooled the string
+     * @param evictions number of pooled strings evicted
+     * @param size      current number of pooled strings
+     * @param capacity  maximum number of pooled strings
+     */
+    public record Statistics(long hits, long misses, long evictions, int size, int capacity) {
+
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups > 0 ? (double) hits / lookups : 0;
+        }
+    }
+}
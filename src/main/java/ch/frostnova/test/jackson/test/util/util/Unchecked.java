@@ -14,4 +14,17 @@ public class Unchecked {
             throw (ex instanceof RuntimeException rte) ? rte : new RuntimeException(ex);
         }
     }
+
+    public static void unchecked(ThrowingRunnable code) {
+        try {
+            code.run();
+        } catch (Exception ex) {
+            throw (ex instanceof RuntimeException rte) ? rte : new RuntimeException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
 }
@@ -1,13 +1,27 @@
 package ch.frostnova.test.jackson.test;
 
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
 import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.HessianSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.JavaClassicSerializer;
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.assertj.core.data.Offset.offset;
 
 /**
@@ -20,6 +34,10 @@ class AspectRatioTest {
 
     private static final Offset<Double> EPSILON = offset(1e-10);
 
+    // reference implementation (former regular expression parser and shared decimal format)
+    private static final Pattern PATTERN = Pattern.compile("\\s*(\\d+(?:\\.\\d+)?)\\s*:\\s*(\\d+(?:\\.\\d+)?)\\s*");
+    private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat("0.##", new DecimalFormatSymbols(Locale.US));
+
     @Test
     void testSimple() {
         var aspectRatio = new AspectRatio("16:9");
@@ -65,4 +83,112 @@ class AspectRatioTest {
         assertThatThrownBy(() -> new AspectRatio(-7, 6)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void testValueOf() {
+        var aspectRatio = AspectRatio.valueOf("16:9");
+        assertThat(AspectRatio.valueOf("16:9")).isSameAs(aspectRatio);
+        assertThat(AspectRatio.valueOf(" 16 : 9 ")).isSameAs(aspectRatio);
+        assertThat(AspectRatio.valueOf("16.0:9.00")).isSameAs(aspectRatio);
+        assertThat(AspectRatio.valueOf(16, 9)).isSameAs(aspectRatio);
+        assertThat(aspectRatio.toString()).isSameAs(aspectRatio.toString()).isEqualTo("16:9");
+
+        // equal, but not the same ratio: different canonical instances
+        assertThat(AspectRatio.valueOf("32:18")).isEqualTo(aspectRatio).isNotSameAs(aspectRatio).hasToString("32:18");
+
+        assertThatThrownBy(() -> AspectRatio.valueOf((String) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AspectRatio.valueOf("16/9")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AspectRatio.valueOf(16, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testCanonicalAfterDeserialization() throws IOException {
+        var movie = Movie.create();
+        var canonical = AspectRatio.valueOf(movie.getAspectRatio().getWidth(), movie.getAspectRatio().getHeight());
+        var json = ObjectMappers.json().writeValueAsString(movie);
+
+        assertThat(ObjectMappers.json().readValue(json, Movie.class).getAspectRatio()).isSameAs(canonical);
+        var hessian = new HessianSerializer<>(Movie.class);
+        assertThat(hessian.deserialize(hessian.serialize(movie)).getAspectRatio()).isSameAs(canonical);
+        var java = new JavaClassicSerializer<>(Movie.class);
+        assertThat(java.deserialize(java.serialize(movie)).getAspectRatio()).isSameAs(canonical);
+    }
+
+    @Test
+    void testParseMatchesReference() {
+        var random = new Random(42);
+        var alphabet = "0123456789.: \t\n\u2003x-";
+        for (var i = 0; i < 200_000; i++) {
+            var value = new StringBuilder();
+            if (i % 2 == 0) {
+                for (var n = random.nextInt(10); n > 0; n--) {
+                    value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            } else {
+                value.append(randomNumber(random)).append(random.nextBoolean() ? ":" : " : ").append(randomNumber(random));
+            }
+            assertThat(parse(value.toString(), AspectRatio::new)).as("'%s'", value).isEqualTo(parse(value.toString(), AspectRatioTest::parseReference));
+        }
+    }
+
+    @Test
+    void testFormatMatchesReference() {
+        var random = new Random(42);
+        for (var i = 0; i < 200_000; i++) {
+            var value = switch (i % 4) {
+                case 0 -> random.nextInt(100_000) / 1000d;
+                case 1 -> random.nextInt(10_000) / 100d + 0.005;
+                case 2 -> random.nextDouble() * 10;
+                default -> Math.scalb(random.nextDouble(), random.nextInt(80) - 20);
+            };
+            if (value > 0) {
+                assertThat(new AspectRatio(value, 1).toString()).as("%s", value).isEqualTo(NUMBER_FORMAT.format(value) + ":1");
+            }
+        }
+    }
+
+    @Test
+    void testNoAllocationInSteadyState() {
+        assumeThat(InstrumentedSerializer.isAllocationSupported()).isTrue();
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var formatted = new String[]{"2.39:1", "1.85:1", "16:9", "4:3"};
+        long hash = 0;
+        for (var i = 0; i < 100_000; i++) {
+            hash += AspectRatio.valueOf(formatted[i & 3]).toString().length();
+        }
+        var allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (var i = 0; i < 100_000; i++) {
+            hash += AspectRatio.valueOf(formatted[i & 3]).toString().length();
+        }
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        assertThat(hash).isPositive();
+        // tolerance for the measurement itself, well below one allocation per operation
+        assertThat(allocated).isLessThan(1000);
+    }
+
+    private static String randomNumber(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> Integer.toString(random.nextInt(100));
+            case 1 -> Double.toString(random.nextInt(100_000) / 100d);
+            case 2 -> "0." + random.nextInt(1000);
+            case 3 -> Long.toString(random.nextLong() & Long.MAX_VALUE) + "." + Long.toString(random.nextLong() & Long.MAX_VALUE);
+            default -> "0.000000000000000000000" + random.nextInt(1000);
+        };
+    }
+
+    private static String parse(String value, Function<String, AspectRatio> parser) {
+        try {
+            var aspectRatio = parser.apply(value);
+            return aspectRatio.getWidth() + ":" + aspectRatio.getHeight();
+        } catch (IllegalArgumentException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    private static AspectRatio parseReference(String formatted) {
+        var matcher = PATTERN.matcher(formatted);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Illegal aspect ratio: " + formatted);
+        }
+        return new AspectRatio(Double.parseDouble(matcher.group(1)), Double.parseDouble(matcher.group(2)));
+    }
 }
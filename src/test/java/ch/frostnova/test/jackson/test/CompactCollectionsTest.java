@@ -0,0 +1,311 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.GenreList;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.domain.RatingMap;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Test for the compact {@link GenreList} and {@link RatingMap}, compared to the standard collections
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class CompactCollectionsTest {
+
+    @Test
+    void testGenreList() throws Exception {
+        var random = new Random(42);
+        var genres = Genre.values();
+        for (var run = 0; run < 200; run++) {
+            var expected = new ArrayList<Genre>();
+            var actual = new GenreList();
+            for (var op = 0; op < 120; op++) {
+                var genre = random.nextInt(10) == 0 ? null : genres[random.nextInt(genres.length)];
+                switch (expected.isEmpty() ? 0 : random.nextInt(6)) {
+                    case 0, 1 -> assertThat(actual.add(genre)).isEqualTo(expected.add(genre));
+                    case 2 -> {
+                        var index = random.nextInt(expected.size() + 1);
+                        expected.add(index, genre);
+                        actual.add(index, genre);
+                    }
+                    case 3 -> {
+                        var index = random.nextInt(expected.size());
+                        assertThat(actual.set(index, genre)).isEqualTo(expected.set(index, genre));
+                    }
+                    case 4 -> {
+                        var index = random.nextInt(expected.size());
+                        assertThat(actual.remove(index)).isEqualTo(expected.remove(index));
+                    }
+                    default -> assertThat(actual.remove(genre)).isEqualTo(expected.remove(genre));
+                }
+                assertThat(actual).isEqualTo(expected);
+            }
+            assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(new GenreList(actual)).isEqualTo(expected);
+            assertThat(new GenreList(expected)).isEqualTo(expected);
+            assertThat(roundtrip(actual)).isEqualTo(expected);
+        }
+
+        var list = new GenreList(List.of(Genre.SCI_FI, Genre.COMEDY, Genre.SCI_FI));
+        assertThat(list).containsExactly(Genre.SCI_FI, Genre.COMEDY, Genre.SCI_FI);
+        list.clear();
+        assertThat(list).isEmpty();
+        assertThatThrownBy(() -> list.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> list.add(1, Genre.SCI_FI)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testRatingMap() throws Exception {
+        var random = new Random(42);
+        for (var run = 0; run < 200; run++) {
+            var expected = new LinkedHashMap<String, Number>();
+            var actual = new RatingMap();
+            for (var op = 0; op < 120; op++) {
+                var key = "source-" + random.nextInt(48);
+                Number value = switch (random.nextInt(6)) {
+                    case 0 -> random.nextInt(100);
+                    case 1 -> (long) random.nextInt(100);
+                    case 2 -> random.nextInt(100) / 4f;
+                    case 3 -> (short) random.nextInt(100);
+                    case 4 -> BigDecimal.valueOf(random.nextInt(100), 1);
+                    default -> random.nextInt(100) / 10d;
+                };
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> assertThat(actual.put(key, value)).isEqualTo(expected.put(key, value));
+                    case 2 -> assertThat(actual.remove(key)).isEqualTo(expected.remove(key));
+                    case 3 -> {
+                        var expectedIterator = expected.entrySet().iterator();
+                        var actualIterator = actual.entrySet().iterator();
+                        while (expectedIterator.hasNext()) {
+                            var expectedEntry = expectedIterator.next();
+                            var actualEntry = actualIterator.next();
+                            assertThat(actualEntry).isEqualTo(expectedEntry);
+                            if (expectedEntry.getKey().equals(key)) {
+                                expectedIterator.remove();
+                                actualIterator.remove();
+                            }
+                        }
+                        assertThat(actualIterator.hasNext()).isFalse();
+                    }
+                    default -> {
+                        assertThat(actual.containsKey(key)).isEqualTo(expected.containsKey(key));
+                        assertThat(actual.get(key)).isEqualTo(expected.get(key));
+                        assertThat(actual.getRating(key, -1)).isEqualTo(expected.containsKey(key) ? expected.get(key).doubleValue() : -1);
+                    }
+                }
+                assertThat(actual).isEqualTo(expected);
+                assertThat(actual.keySet()).containsExactlyElementsOf(expected.keySet());
+            }
+            assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+            assertThat(new RatingMap(actual)).isEqualTo(expected);
+            assertThat(roundtrip(actual)).isEqualTo(expected);
+            assertThat(new ArrayList<>(roundtrip(actual).keySet())).containsExactlyElementsOf(expected.keySet());
+        }
+    }
+
+    @Test
+    void testRatingMapPrimitiveAccess() {
+        var ratings = new RatingMap(2);
+        ratings.putRating("IMDB", 8.2);
+        ratings.put("Metacritic", 75);
+        ratings.putRating("IMDB", 8.4);
+
+        assertThat(ratings.get("Metacritic")).isEqualTo(75);
+        assertThat(ratings.keyAt(0)).isEqualTo("IMDB");
+        assertThat(ratings.ratingAt(0)).isEqualTo(8.4);
+        assertThat(ratings.getRating("Letterboxd", 0)).isZero();
+
+        var visited = new LinkedHashMap<String, Double>();
+        ratings.forEachRating(visited::put);
+        assertThat(visited).containsExactly(Map.entry("IMDB", 8.4), Map.entry("Metacritic", 75.0));
+
+        ratings.entrySet().iterator().next().setValue(9);
+        assertThat(ratings.ratingAt(0)).isEqualTo(9.0);
+        assertThat(ratings.get("IMDB")).isEqualTo(9);
+
+        assertThatThrownBy(() -> ratings.put("IMDB", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ratings.putRating(null, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ratings.keyAt(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThat(ratings.get(null)).isNull();
+        assertThat(ratings.get(1)).isNull();
+    }
+
+    @Test
+    void testRatingNumericKinds() throws Exception {
+        var movie = Movie.create();
+        movie.setRatings(new LinkedHashMap<>(Map.of("Metacritic", 75)));
+        movie.getRatings().put("IMDB", 8.2);
+        movie.getRatings().put("Votes", 1_234_567_890_123L);
+        movie.getRatings().put("Letterboxd", 4.1f);
+
+        for (var mapper : List.of(ObjectMappers.json(), ObjectMappers.yaml())) {
+            var serialized = mapper.writeValueAsString(movie.getRatings());
+            assertThat(serialized).contains("75").doesNotContain("75.0").contains("1234567890123").contains("4.1").contains("8.2");
+            var parsed = mapper.readValue(mapper.writeValueAsString(movie), Movie.class);
+            assertThat(mapper.writeValueAsString(parsed.getRatings())).isEqualTo(serialized);
+        }
+        assertThat(ObjectMappers.json().writeValueAsString(movie.getRatings()).replaceAll("\\s", ""))
+                .isEqualTo("{\"Metacritic\":75,\"IMDB\":8.2,\"Votes\":1234567890123,\"Letterboxd\":4.1}");
+        assertThat(roundtrip(movie.getRatings())).containsExactly(Map.entry("Metacritic", 75), Map.entry("IMDB", 8.2),
+                Map.entry("Votes", 1_234_567_890_123L), Map.entry("Letterboxd", 4.1f));
+    }
+
+    @Test
+    void testRatingOtherNumbers() throws Exception {
+        var counter = new AtomicLong(42);
+        var ratings = new RatingMap();
+        ratings.put("Precise", new BigDecimal("8.12345678901234567890"));
+        ratings.put("Huge", new BigInteger("123456789012345678901234567890"));
+        ratings.put("Short", (short) 7);
+        ratings.put("Byte", (byte) 3);
+        ratings.put("Counter", counter);
+        ratings.put("Plain", 5);
+
+        assertThat(ratings.get("Precise")).isEqualTo(new BigDecimal("8.12345678901234567890"));
+        assertThat(ratings.get("Huge")).isEqualTo(new BigInteger("123456789012345678901234567890"));
+        assertThat(ratings.get("Short")).isEqualTo((short) 7);
+        assertThat(ratings.get("Byte")).isEqualTo((byte) 3);
+        assertThat(ratings.get("Counter")).isSameAs(counter);
+        assertThat(ratings.getRating("Precise", 0)).isEqualTo(8.123456789012346);
+        counter.incrementAndGet();
+        assertThat(ratings.getRating("Counter", 0)).isEqualTo(43);
+
+        ratings.putRating("Precise", 8.5);
+        assertThat(ratings.get("Precise")).isEqualTo(8.5);
+        ratings.remove("Huge");
+        assertThat(ratings).containsExactly(Map.entry("Precise", 8.5), Map.entry("Short", (short) 7),
+                Map.entry("Byte", (byte) 3), Map.entry("Counter", counter), Map.entry("Plain", 5));
+        var copy = roundtrip(ratings);
+        assertThat(copy.get("Counter")).isInstanceOf(AtomicLong.class).hasToString("43");
+        ratings.remove("Counter");
+        copy.remove("Counter");
+        assertThat(copy).containsExactlyEntriesOf(ratings);
+
+        // as read by Jackson with big decimals for floats, or for integers beyond the long range
+        var mapper = ObjectMappers.json().copy().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        var movie = Movie.create();
+        movie.setRatings(new LinkedHashMap<>(Map.of("IMDB", 8.2)));
+        movie.getRatings().put("Votes", new BigInteger("123456789012345678901234567890"));
+        var parsed = mapper.readValue(mapper.writeValueAsString(movie), Movie.class);
+        assertThat(parsed.getRatings()).containsExactly(Map.entry("IMDB", new BigDecimal("8.2")),
+                Map.entry("Votes", new BigInteger("123456789012345678901234567890")));
+    }
+
+    @Test
+    void testRatingMapInvalidStream() throws Exception {
+        var ratings = new RatingMap();
+        ratings.put("Metacritic", 75);
+        var serialized = serialize(ratings);
+
+        // block data of the size (int 1), then of the kind (byte) and value (long) after the key
+        var sizePosition = indexOf(serialized, new byte[]{0x77, 4, 0, 0, 0, 1}) + 2;
+        var kindPosition = indexOf(serialized, "Metacritic".getBytes(StandardCharsets.UTF_8)) + "Metacritic".length() + 2;
+        assertThat(serialized[kindPosition]).isEqualTo((byte) 1);
+
+        var illegalKind = serialized.clone();
+        illegalKind[kindPosition] = 7;
+        assertThatThrownBy(() -> deserialize(illegalKind)).isInstanceOf(InvalidObjectException.class);
+        var negativeSize = serialized.clone();
+        Arrays.fill(negativeSize, sizePosition, sizePosition + 4, (byte) 0xff);
+        assertThatThrownBy(() -> deserialize(negativeSize)).isInstanceOf(InvalidObjectException.class);
+
+        // keys beyond the 64 KB limit of modified UTF-8
+        ratings.put("x".repeat(100_000), 1);
+        assertThat(roundtrip(ratings)).isEqualTo(ratings);
+    }
+
+    @Test
+    void testFootprint() {
+        var genres = List.of(Genre.SCI_FI, Genre.ACTION, Genre.THRILLER);
+        var ratings = new LinkedHashMap<String, Number>();
+        ratings.put("IMDB", 8.2);
+        ratings.put("Metacritic", 75);
+        ratings.put("Rotten Tomatoes", 91);
+        ratings.put("Letterboxd", 4.1);
+
+        var linkedList = allocatedBytes(() -> new LinkedList<>(genres));
+        var genreList = allocatedBytes(() -> new GenreList(genres));
+        var hashMap = allocatedBytes(() -> {
+            var map = new HashMap<String, Number>();
+            ratings.forEach((key, value) -> map.put(key, value.doubleValue()));
+            return map;
+        });
+        var ratingMap = allocatedBytes(() -> new RatingMap(ratings));
+
+        assumeThat(linkedList).as("allocated bytes measurement").isPositive();
+        System.out.printf("%nGenres (3):  LinkedList %4d bytes, GenreList %4d bytes%n", linkedList, genreList);
+        System.out.printf("Ratings (4): HashMap    %4d bytes, RatingMap %4d bytes%n", hashMap, ratingMap);
+        assertThat(genreList).isLessThan(linkedList / 2);
+        assertThat(ratingMap).isLessThan(hashMap / 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundtrip(T value) throws IOException, ClassNotFoundException {
+        return (T) deserialize(serialize(value));
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var objectOut = new ObjectOutputStream(out)) {
+            objectOut.writeObject(value);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] serialized) throws IOException, ClassNotFoundException {
+        try (var objectIn = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return objectIn.readObject();
+        }
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        for (var i = 0; i <= data.length - pattern.length; i++) {
+            if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("pattern not found");
+    }
+
+    private static long allocatedBytes(Supplier<Object> allocation) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // warmup (JIT), then measure
+        for (var i = 0; i < 1000; i++) {
+            assertThat(allocation.get()).isNotNull();
+        }
+        var before = threadMXBean.getCurrentThreadAllocatedBytes();
+        var result = allocation.get();
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        assertThat(result).isNotNull();
+        return allocated;
+    }
+}
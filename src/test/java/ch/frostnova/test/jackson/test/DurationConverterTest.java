@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -56,4 +58,68 @@ class DurationConverterTest {
         assertThat(objectMapper.readValue("\"3w13h9m\"", Duration.class)).isEqualTo(Duration.ofDays(21).plus(Duration.ofMinutes(789)));
         assertThat(objectMapper.readValue("\"23h59m59s\"", Duration.class)).isEqualTo(Duration.ofDays(1).minus(Duration.ofSeconds(1)));
     }
+
+    @Test
+    void testFormatMatchesReference() {
+        var random = new Random(42);
+        for (var i = 0; i < 100_000; i++) {
+            var duration = switch (i % 4) {
+                case 0 -> Duration.ofSeconds(random.nextInt(100_000));
+                case 1 -> Duration.ofSeconds(random.nextLong() >> random.nextInt(64));
+                case 2 -> Duration.ofSeconds(random.nextInt(10_000_000) - 5_000_000, random.nextInt(1_000_000_000));
+                default -> Duration.ofDays(random.nextInt(30)).plusMinutes(random.nextInt(60) * (i & 8));
+            };
+            assertThat(DurationConverter.format(duration)).as(duration.toString()).isEqualTo(RegexDurationFormat.format(duration));
+        }
+        assertThat(DurationConverter.format(null)).isEqualTo(RegexDurationFormat.format(null));
+        assertThat(DurationConverter.format(Duration.ofSeconds(Long.MAX_VALUE))).isEqualTo(RegexDurationFormat.format(Duration.ofSeconds(Long.MAX_VALUE)));
+        assertThat(DurationConverter.format(Duration.ofSeconds(Long.MIN_VALUE))).isEqualTo(RegexDurationFormat.format(Duration.ofSeconds(Long.MIN_VALUE)));
+    }
+
+    @Test
+    void testParseMatchesReference() {
+        var random = new Random(42);
+        var alphabet = "0123456789wdhmsWx \t\n\u000B\f\r\u2003-";
+        var units = "wdhms";
+        var whitespace = new String[]{"", "", " ", "  ", "\t", "\n "};
+        for (var i = 0; i < 200_000; i++) {
+            var value = new StringBuilder();
+            if (i % 2 == 0) {
+                // random characters
+                for (var n = random.nextInt(12); n > 0; n--) {
+                    value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            } else {
+                // well-formed tokens (mostly), with random whitespace and occasionally huge numbers or swapped units
+                value.append(whitespace[random.nextInt(whitespace.length)]);
+                for (var u = 0; u < units.length(); u++) {
+                    if (random.nextBoolean()) {
+                        value.append(random.nextInt(50) == 0 ? "9999999999" : Integer.toString(random.nextInt(1000)));
+                        value.append(whitespace[random.nextInt(whitespace.length)]);
+                        value.append(random.nextInt(50) == 0 ? units.charAt(random.nextInt(units.length())) : units.charAt(u));
+                        value.append(whitespace[random.nextInt(whitespace.length)]);
+                    }
+                }
+            }
+            assertSameResult(value.toString());
+        }
+        for (var value : new String[]{null, "", " ", "\u2003", "5", "w", "1w1w", "1d1w", "1 2d", "2147483647s", "2147483648s",
+                "2147483647w", "306783378w 2d", "99999999999w x", "99999999999w 99999999999d", "1w\u00A02d", "\uFF11s"}) {
+            assertSameResult(value);
+        }
+    }
+
+    private void assertSameResult(String value) {
+        var expected = result(() -> RegexDurationFormat.parse(value));
+        var actual = result(() -> DurationConverter.parse(value));
+        assertThat(actual).as("'%s'", value).isEqualTo(expected);
+    }
+
+    private String result(Supplier<Duration> parse) {
+        try {
+            return String.valueOf(parse.get());
+        } catch (RuntimeException ex) {
+            return ex.getClass().getName() + ": " + ex.getMessage();
+        }
+    }
 }
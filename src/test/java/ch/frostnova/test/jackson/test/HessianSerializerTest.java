@@ -0,0 +1,160 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.HessianSerializer;
+import com.caucho.hessian.io.AbstractHessianOutput;
+import com.caucho.hessian.io.AbstractSerializer;
+import com.caucho.hessian.io.ExtSerializerFactory;
+import com.caucho.hessian.io.Hessian2Output;
+import com.caucho.hessian.io.SerializerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the binary time value encodings of the {@link HessianSerializer}, and compatibility with the legacy text
+ * encodings
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class HessianSerializerTest {
+
+    private static final List<LocalDate> DATES = List.of(LocalDate.of(1942, 7, 13), LocalDate.of(1970, 1, 1),
+            LocalDate.of(2026, 10, 17), LocalDate.of(-9999, 1, 1), LocalDate.of(9999, 12, 31), LocalDate.MIN, LocalDate.MAX);
+    private static final List<Duration> DURATIONS = List.of(Duration.ZERO, Duration.ofMinutes(117),
+            Duration.ofSeconds(-1, 1), Duration.ofSeconds(3, 999_999_999), Duration.ofDays(-36500).minusNanos(7),
+            Duration.ofSeconds(Long.MIN_VALUE), Duration.ofSeconds(Long.MAX_VALUE, 999_999_999));
+
+    @Test
+    void testRoundtrip() {
+        for (var pooled : List.of(false, true)) {
+            var serializer = new HessianSerializer<>(Movie.class, pooled);
+            for (var i = 0; i < DATES.size(); i++) {
+                var movie = movie(DATES.get(i), DURATIONS.get(i));
+                assertSameValues(serializer.deserialize(serializer.serialize(movie)), movie);
+            }
+            var movie = movie(null, null);
+            movie.setCreated(null);
+            assertSameValues(serializer.deserialize(serializer.serialize(movie)), movie);
+        }
+    }
+
+    @Test
+    void testLegacyEncoding() throws IOException {
+        var serializer = new HessianSerializer<>(Movie.class);
+        for (var i = 0; i < DATES.size(); i++) {
+            var movie = movie(DATES.get(i), DURATIONS.get(i));
+            var legacy = serializeLegacy(movie);
+
+            assertSameValues(serializer.deserialize(legacy), movie);
+            assertThat(serializer.serialize(movie).length).isLessThan(legacy.length);
+        }
+    }
+
+    @Test
+    void testIntEpochDayEncoding() throws IOException {
+        var serializer = new HessianSerializer<>(Movie.class);
+        for (var i = 0; i < 5; i++) {
+            var movie = movie(DATES.get(i), DURATIONS.get(i));
+            var intEncoded = serialize(movie, date -> (int) ((LocalDate) date).toEpochDay(), Object::toString);
+
+            assertSameValues(serializer.deserialize(intEncoded), movie);
+        }
+    }
+
+    @Test
+    void testDurationsWithoutDeclaredType() {
+        var actor = new Actor("Harrison", "Ford", LocalDate.of(1942, 7, 13));
+        for (var pooled : List.of(false, true)) {
+            var listSerializer = new HessianSerializer<>(List.class, pooled);
+            List<Object> list = new ArrayList<>(DURATIONS);
+            list.add(actor);
+            list.add(Duration.ofSeconds(5, 7));
+            list.add(actor);
+            var listCopy = listSerializer.deserialize(listSerializer.serialize(list));
+            assertThat(listCopy).isEqualTo(list);
+            assertThat(listCopy.get(listCopy.size() - 1)).isSameAs(listCopy.get(listCopy.size() - 3));
+
+            var mapSerializer = new HessianSerializer<>(Map.class, pooled);
+            Map<String, Object> map = new HashMap<>();
+            map.put("duration", Duration.ofMinutes(3));
+            map.put("durations", new ArrayList<>(DURATIONS));
+            map.put("title", "Blade Runner");
+            assertThat(mapSerializer.deserialize(mapSerializer.serialize(map))).isEqualTo(map);
+        }
+    }
+
+    private static Movie movie(LocalDate birthDate, Duration duration) {
+        var movie = Movie.create();
+        movie.setCreated(Instant.ofEpochMilli(1_792_000_000_123L));
+        movie.setDuration(duration);
+        movie.setActors(new ArrayList<>(List.of(new Actor("Harrison", "Ford", birthDate), new Actor("Sean", "Young", LocalDate.of(1959, 11, 20)))));
+        return movie;
+    }
+
+    private static void assertSameValues(Movie actual, Movie expected) {
+        assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(actual.getCreated()).isEqualTo(expected.getCreated());
+        assertThat(actual.getDuration()).isEqualTo(expected.getDuration());
+        assertThat(actual.getActors()).isEqualTo(expected.getActors());
+        assertThat(actual.getGenres()).isEqualTo(expected.getGenres());
+        assertThat(actual.getRatings()).isEqualTo(expected.getRatings());
+    }
+
+    /**
+     * Serialize with the legacy encodings: dates and durations as ISO-8601 text, instants boxed.
+     */
+    private static byte[] serializeLegacy(Object value) throws IOException {
+        return serialize(value, Object::toString, Object::toString);
+    }
+
+    /**
+     * Serialize with the given date and duration encodings, instants boxed.
+     */
+    private static byte[] serialize(Object value, Function<Object, Object> dateEncoder, Function<Object, Object> durationEncoder) throws IOException {
+        var extSerializerFactory = new ExtSerializerFactory();
+        extSerializerFactory.addSerializer(Instant.class, new LegacySerializer(instant -> ((Instant) instant).toEpochMilli()));
+        extSerializerFactory.addSerializer(LocalDate.class, new LegacySerializer(dateEncoder));
+        extSerializerFactory.addSerializer(Duration.class, new LegacySerializer(durationEncoder));
+        var serializerFactory = new SerializerFactory();
+        serializerFactory.addFactory(extSerializerFactory);
+
+        var out = new ByteArrayOutputStream();
+        var objectOut = new Hessian2Output(out);
+        objectOut.setSerializerFactory(serializerFactory);
+        objectOut.writeObject(value);
+        objectOut.close();
+        return out.toByteArray();
+    }
+
+    private static class LegacySerializer extends AbstractSerializer {
+
+        private final Function<Object, Object> encoder;
+
+        LegacySerializer(Function<Object, Object> encoder) {
+            this.encoder = encoder;
+        }
+
+        @Override
+        public void writeObject(Object obj, AbstractHessianOutput out) throws IOException {
+            if (obj != null) {
+                out.writeObject(encoder.apply(obj));
+            } else {
+                out.writeNull();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.JacksonSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer.Operation.DESERIALIZE;
+import static ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer.Operation.SERIALIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Test for the {@link InstrumentedSerializer}
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class InstrumentedSerializerTest {
+
+    @Test
+    void testCountsAllOverloads() {
+        var serializer = new InstrumentedSerializer<>(new JacksonSerializer<>(ObjectMappers.json(), Movie.class));
+        var movie = Movie.create();
+
+        var serialized = serializer.serialize(movie);
+        serializer.serialize(movie, new ByteArrayOutputStream());
+        serializer.serialize(movie, ByteBuffer.allocate(serialized.length));
+        serializer.deserialize(serialized);
+        serializer.deserialize(new ByteArrayInputStream(serialized));
+        serializer.deserialize(ByteBuffer.wrap(serialized));
+
+        assertThat(serializer.getStatistics(SERIALIZE).operations()).isEqualTo(3);
+        assertThat(serializer.getStatistics(DESERIALIZE).operations()).isEqualTo(3);
+
+        serializer.reset();
+        assertThat(serializer.getStatistics(SERIALIZE)).isEqualTo(new InstrumentedSerializer.Statistics(0, 0, 0));
+        assertThat(serializer.getStatistics(DESERIALIZE)).isEqualTo(new InstrumentedSerializer.Statistics(0, 0, 0));
+    }
+
+    @Test
+    void testAllocationAndCpuTime() {
+        assumeThat(InstrumentedSerializer.isAllocationSupported()).isTrue();
+        assumeThat(InstrumentedSerializer.isCpuTimeSupported()).isTrue();
+
+        var serializer = new InstrumentedSerializer<>(new JacksonSerializer<>(ObjectMappers.json(), Movie.class));
+        var movie = Movie.create();
+        for (var i = 0; i < 100; i++) {
+            serializer.deserialize(serializer.serialize(movie));
+        }
+
+        var serialize = serializer.getStatistics(SERIALIZE);
+        assertThat(serialize.operations()).isEqualTo(100);
+        // at least the returned byte array is allocated
+        assertThat(serialize.allocatedBytesPerOperation()).isGreaterThanOrEqualTo(serializer.serialize(movie).length);
+        assertThat(serialize.cpuTimeNanos()).isPositive();
+
+        var deserialize = serializer.getStatistics(DESERIALIZE);
+        assertThat(deserialize.allocatedBytes()).isPositive();
+        assertThat(deserialize.cpuTimeNanos()).isPositive();
+    }
+}
@@ -0,0 +1,118 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.converter.MetadataConverter;
+import ch.frostnova.test.jackson.test.util.domain.Metadata;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the streaming {@link MetadataConverter.Deserializer}: same results as the tree-based
+ * {@link TreeMetadataDeserializer} in all formats.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class MetadataConverterTest {
+
+    private static final String JSON = """
+            {"title": "Test", "metadata": {
+              "text": "value", "empty": "", "int": 42, "long": 12345678901, "big": 123456789012345678901234567890,
+              "double": 1.50, "exp": 1e3, "negative": -0.0, "true": true, "null": null,
+              "object": {"x": 1}, "array": [1, "two"], "dup": "first", "dup": "last", "unicode": "ä€🎬"
+            }, "year": 2001}""";
+
+    private static final String YAML = """
+            title: Test
+            metadata:
+              text: value
+              empty: ""
+              int: 42
+              double: 1.50
+              octal: 0o17
+              true: yes
+              bool: true
+              null: ~
+              quoted: "1.50"
+              object:
+                x: 1
+              array: [1, two]
+            year: 2001
+            """;
+
+    private static final String XML = """
+            <movie><title>Test</title><metadata>
+              <text>value</text><empty/><number>1.50</number><spaces>  a b  </spaces>
+              <object><x>1</x></object><dup>1</dup><dup>2</dup><dup>3</dup>
+            </metadata><year>2001</year></movie>""";
+
+    private static final String PROPERTIES = """
+            title=Test
+            metadata.text=value
+            metadata.empty=
+            metadata.number=1.50
+            metadata.nested.x=1
+            year=2001
+            """;
+
+    @Test
+    void testSerialized() throws IOException {
+        var movie = Movie.create();
+        for (var i = 0; i < 300; i++) {
+            movie.getMetadata().set("key-" + i, i % 7 == 0 ? null : "value " + i);
+        }
+        for (var mapper : mappers().values()) {
+            var serialized = mapper.writeValueAsBytes(movie);
+            assertSameMetadata(mapper, serialized);
+        }
+    }
+
+    @Test
+    void testCoercion() throws IOException {
+        assertSameMetadata(ObjectMappers.json(), JSON.getBytes(UTF_8));
+        assertSameMetadata(ObjectMappers.yaml(), YAML.getBytes(UTF_8));
+        assertSameMetadata(ObjectMappers.xml(), XML.getBytes(UTF_8));
+        assertSameMetadata(ObjectMappers.properties(), PROPERTIES.getBytes(UTF_8));
+        assertSameMetadata(ObjectMappers.cbor(), ObjectMappers.cbor().writeValueAsBytes(ObjectMappers.json().readTree(JSON)));
+
+        var metadata = ObjectMappers.json().readValue(JSON, Movie.class).getMetadata();
+        assertThat(metadata.get("double")).hasValue("1.5");
+        assertThat(metadata.get("null")).hasValue("null");
+        assertThat(metadata.get("object")).hasValue("");
+        assertThat(metadata.get("dup")).hasValue("last");
+        assertThat(ObjectMappers.xml().readValue(XML, Movie.class).getMetadata().get("dup")).hasValue("");
+    }
+
+    private static Map<String, ObjectMapper> mappers() {
+        var mappers = new LinkedHashMap<String, ObjectMapper>();
+        mappers.put("JSON", ObjectMappers.json());
+        mappers.put("YAML", ObjectMappers.yaml());
+        mappers.put("XML", ObjectMappers.xml());
+        mappers.put("CBOR", ObjectMappers.cbor());
+        mappers.put("PROPERTIES", ObjectMappers.properties());
+        return mappers;
+    }
+
+    private void assertSameMetadata(ObjectMapper mapper, byte[] serialized) throws IOException {
+        var expected = TreeMetadataDeserializer.use(mapper).readValue(serialized, Movie.class);
+        var actual = mapper.readValue(serialized, Movie.class);
+
+        assertThat(actual.getTitle()).isEqualTo(expected.getTitle());
+        assertThat(actual.getYear()).isEqualTo(expected.getYear());
+        assertThat(entries(actual.getMetadata())).isEqualTo(entries(expected.getMetadata()));
+    }
+
+    private static Map<String, String> entries(Metadata metadata) {
+        var entries = new LinkedHashMap<String, String>();
+        metadata.getKeys().forEach(key -> entries.put(key, metadata.get(key).orElse("<absent>")));
+        return entries;
+    }
+}
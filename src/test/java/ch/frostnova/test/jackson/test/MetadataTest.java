@@ -0,0 +1,134 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Metadata;
+import ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Test for the compact {@link Metadata} storage
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class MetadataTest {
+
+    @Test
+    void testGetSetRemove() {
+        var metadata = new Metadata();
+        metadata.set("b", "2");
+        metadata.set("a", "1");
+        metadata.set("c", null);
+        metadata.set("b", "two");
+
+        assertThat(metadata.getKeys()).containsExactly("a", "b", "c");
+        assertThat(metadata.get("a")).hasValue("1");
+        assertThat(metadata.get("b")).hasValue("two");
+        assertThat(metadata.get("c")).isEmpty();
+        assertThat(metadata.get("d")).isEmpty();
+        assertThat(metadata.get(null)).isEmpty();
+        assertThat(metadata.getKeys()).contains("c").doesNotContain("d");
+
+        metadata.remove("b");
+        metadata.remove("d");
+        assertThat(metadata.getKeys()).containsExactly("a", "c");
+
+        assertThatThrownBy(() -> metadata.set(null, "x")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> metadata.remove(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSameAsTreeMap() {
+        var random = new Random(42);
+        var metadata = new Metadata();
+        var reference = new TreeMap<String, String>();
+        for (var i = 0; i < 20_000; i++) {
+            var key = "key-" + random.nextInt(500);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    metadata.remove(key);
+                    reference.remove(key);
+                }
+                case 1 -> metadata.freeze();
+                default -> {
+                    metadata.set(key, "value-" + i);
+                    reference.put(key, "value-" + i);
+                }
+            }
+            assertThat(metadata.get(key)).isEqualTo(Optional.ofNullable(reference.get(key)));
+        }
+        assertThat(metadata.getKeys()).containsExactlyElementsOf(reference.keySet());
+        reference.keySet().forEach(key -> assertThat(metadata.get(key)).hasValue(reference.get(key)));
+    }
+
+    @Test
+    void testKeyIterator() {
+        var metadata = new Metadata();
+        for (var i = 0; i < 10; i++) {
+            metadata.set("key-" + i, "value-" + i);
+        }
+        metadata.getKeys().removeIf(key -> key.endsWith("1") || key.endsWith("5"));
+        assertThat(metadata.getKeys()).hasSize(8).doesNotContain("key-1", "key-5");
+    }
+
+    @Test
+    void testFrozenCopyOnWrite() throws IOException {
+        var metadata = ObjectMappers.json().readValue("{\"a\":\"1\",\"b\":\"2\"}", Metadata.class);
+        assertThat(metadata.isFrozen()).isTrue();
+
+        var copy = new Metadata(metadata);
+        assertThat(copy.isFrozen()).isTrue();
+        copy.set("c", "3");
+        copy.set("a", "one");
+        assertThat(copy.isFrozen()).isFalse();
+
+        assertThat(metadata.getKeys()).containsExactly("a", "b");
+        assertThat(metadata.get("a")).hasValue("1");
+        assertThat(copy.getKeys()).containsExactly("a", "b", "c");
+        assertThat(copy.get("a")).hasValue("one");
+    }
+
+    @Test
+    void testFootprint() {
+        assumeThat(InstrumentedSerializer.isAllocationSupported()).isTrue();
+        for (var entries : new int[]{10, 100, 1000}) {
+            var reference = new TreeMap<String, String>();
+            var metadata = new Metadata();
+            for (var i = 0; i < entries; i++) {
+                reference.put("key-" + i, "value-" + i);
+                metadata.set("key-" + i, "value-" + i);
+            }
+
+            // copies allocate exactly the structure (map and entries / exact-size arrays), keys and values are shared
+            var treeMapBytes = allocatedBytes(() -> new TreeMap<>(reference));
+            var metadataBytes = allocatedBytes(() -> new Metadata(metadata));
+            System.out.printf("%d entries: TreeMap %d bytes, compact %d bytes (%.1f vs %.1f bytes per entry)%n", entries,
+                    treeMapBytes, metadataBytes, (double) treeMapBytes / entries, (double) metadataBytes / entries);
+            assertThat(metadataBytes).isLessThan(treeMapBytes / 2);
+        }
+    }
+
+    private static long allocatedBytes(Supplier<Object> allocation) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // warmup (JIT), then measure
+        for (var i = 0; i < 1000; i++) {
+            assertThat(allocation.get()).isNotNull();
+        }
+        var before = threadMXBean.getCurrentThreadAllocatedBytes();
+        var result = allocation.get();
+        var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+        assertThat(result).isNotNull();
+        return allocated;
+    }
+}
@@ -0,0 +1,91 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.ObjectMappers.Profile;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Profile.ACCELERATED;
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Profile.DEFAULT;
+import static ch.frostnova.test.jackson.test.util.ObjectMappers.Profile.WIRE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for the {@link ObjectMappers} profiles
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class ObjectMapperProfileTest {
+
+    @Test
+    void testAcceleratedJSON() throws IOException {
+        testAccelerated(ObjectMappers::json);
+    }
+
+    @Test
+    void testAcceleratedYAML() throws IOException {
+        testAccelerated(ObjectMappers::yaml);
+    }
+
+    @Test
+    void testAcceleratedXML() throws IOException {
+        testAccelerated(ObjectMappers::xml);
+    }
+
+    @Test
+    void testAcceleratedCBOR() throws IOException {
+        testAccelerated(ObjectMappers::cbor);
+    }
+
+    @Test
+    void testWire() throws IOException {
+        var movie = Movie.create();
+
+        var pretty = ObjectMappers.json().writeValueAsString(movie);
+        var compact = ObjectMappers.json(WIRE).writeValueAsString(movie);
+        assertThat(compact).doesNotContain("\n").hasSizeLessThan(pretty.length());
+        assertThat(ObjectMappers.json().readTree(compact)).isEqualTo(ObjectMappers.json().readTree(pretty));
+
+        var xml = ObjectMappers.xml(WIRE).writeValueAsString(movie);
+        assertThat(xml).doesNotContain("\n  <");
+        assertThat(ObjectMappers.xml(WIRE).readValue(xml, Movie.class).getActors()).containsExactlyElementsOf(movie.getActors());
+
+        // no whitespace in binary formats anyway
+        assertThat(ObjectMappers.cbor(WIRE).writeValueAsBytes(movie)).isEqualTo(ObjectMappers.cbor().writeValueAsBytes(movie));
+    }
+
+    @Test
+    void testCombinedProfiles() throws IOException {
+        var movie = Movie.create();
+
+        var combined = ObjectMappers.json(WIRE, ACCELERATED);
+        assertThat(combined).isSameAs(ObjectMappers.json(ACCELERATED, WIRE)).isSameAs(ObjectMappers.json(WIRE, ACCELERATED, DEFAULT))
+                .isNotSameAs(ObjectMappers.json(WIRE)).isNotSameAs(ObjectMappers.json(ACCELERATED));
+        assertThat(ObjectMappers.json(DEFAULT, WIRE)).isSameAs(ObjectMappers.json(WIRE));
+        assertThat(combined.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+        assertThat(combined.writeValueAsString(movie)).isEqualTo(ObjectMappers.json(WIRE).writeValueAsString(movie));
+        assertThat(combined.readValue(combined.writeValueAsBytes(movie), Movie.class).getActors()).containsExactlyElementsOf(movie.getActors());
+    }
+
+    private void testAccelerated(Function<Profile, ObjectMapper> mappers) throws IOException {
+        var plain = mappers.apply(DEFAULT);
+        var accelerated = mappers.apply(ACCELERATED);
+        assertThat(accelerated).isSameAs(mappers.apply(ACCELERATED));
+        assertThat(plain.getRegisteredModuleIds()).doesNotContain(new BlackbirdModule().getTypeId());
+        assertThat(accelerated.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+
+        var movie = Movie.create();
+        var expected = plain.writeValueAsBytes(movie);
+        assertThat(accelerated.writeValueAsBytes(movie)).isEqualTo(expected);
+
+        // read with the accelerated mapper, written again by the plain mapper
+        var parsed = accelerated.readValue(expected, Movie.class);
+        assertThat(plain.writeValueAsBytes(parsed)).isEqualTo(expected);
+    }
+}
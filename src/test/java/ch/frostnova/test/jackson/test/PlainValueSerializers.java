@@ -0,0 +1,48 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.converter.FunctionalSerializer;
+import ch.frostnova.test.jackson.test.util.converter.ToStringSerializer;
+import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * Serializers for {@link Genre} and {@link AspectRatio} without pre-encoded values (convert and encode on every call),
+ * kept as reference for the pre-encoding serializers (differential test and benchmark).
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+public final class PlainValueSerializers {
+
+    private PlainValueSerializers() {
+
+    }
+
+    /**
+     * Copy of a mapper, using the plain serializers for {@link Genre} and {@link AspectRatio}.
+     *
+     * @param mapper mapper, required
+     * @return mapper copy
+     */
+    public static ObjectMapper use(ObjectMapper mapper) {
+        return mapper.copy()
+                .addMixIn(Genre.class, GenreMixIn.class)
+                .addMixIn(AspectRatio.class, AspectRatioMixIn.class);
+    }
+
+    public static class PlainGenreSerializer extends FunctionalSerializer<Genre> {
+        public PlainGenreSerializer() {
+            super(Genre::getIdentifier);
+        }
+    }
+
+    @JsonSerialize(using = PlainGenreSerializer.class)
+    private interface GenreMixIn {
+    }
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private interface AspectRatioMixIn {
+    }
+}
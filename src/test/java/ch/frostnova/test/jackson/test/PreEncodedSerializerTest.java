@@ -0,0 +1,64 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.converter.FunctionalSerializer;
+import ch.frostnova.test.jackson.test.util.converter.ToStringSerializer;
+import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for pre-encoded values in {@link FunctionalSerializer} ({@link Genre}) and {@link ToStringSerializer}
+ * ({@link AspectRatio}): same output as the {@link PlainValueSerializers plain serializers}.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class PreEncodedSerializerTest {
+
+    @Test
+    void testSameOutput() throws IOException {
+        var movie = Movie.create();
+        movie.setGenres(new ArrayList<>(List.of(Genre.values())));
+        var values = Map.of("genres", List.of(Genre.values()),
+                "ratios", List.of(AspectRatio.valueOf("16:9"), AspectRatio.valueOf(2.39, 1), new AspectRatio(4, 3)));
+
+        for (var mapper : List.of(ObjectMappers.json(), ObjectMappers.yaml(), ObjectMappers.xml(), ObjectMappers.cbor(),
+                ObjectMappers.smile(), ObjectMappers.ion(), ObjectMappers.properties())) {
+            var plain = PlainValueSerializers.use(mapper);
+            assertThat(mapper.writeValueAsBytes(movie)).isEqualTo(plain.writeValueAsBytes(movie));
+            if (!(mapper.getFactory().getFormatName().equals("XML"))) {
+                assertThat(mapper.writeValueAsBytes(values)).isEqualTo(plain.writeValueAsBytes(values));
+            }
+        }
+    }
+
+    @Test
+    void testValuesNotPreEncoded() throws IOException {
+        // only some values pre-encoded: others are converted on every call
+        var module = new SimpleModule()
+                .addSerializer(DayOfWeek.class, new FunctionalSerializer<>(DayOfWeek::name, Set.of(DayOfWeek.MONDAY)) {
+                });
+        var mapper = new ObjectMapper().registerModule(module);
+        assertThat(mapper.writeValueAsString(List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY))).isEqualTo("[\"MONDAY\",\"FRIDAY\"]");
+
+        // cache full after one value: further values are written as they are
+        module = new SimpleModule().addSerializer(URI.class, new ToStringSerializer(1));
+        mapper = new ObjectMapper().registerModule(module);
+        var uris = List.of(URI.create("urn:a"), URI.create("urn:b"), URI.create("urn:a"));
+        assertThat(mapper.writeValueAsString(uris)).isEqualTo("[\"urn:a\",\"urn:b\",\"urn:a\"]");
+    }
+}
@@ -3,8 +3,10 @@ package ch.frostnova.test.jackson.test;
 import ch.frostnova.test.jackson.test.util.ObjectMappers;
 import ch.frostnova.test.jackson.test.util.domain.Movie;
 import ch.frostnova.test.jackson.test.util.serializer.HessianSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer;
 import ch.frostnova.test.jackson.test.util.serializer.JacksonSerializer;
 import ch.frostnova.test.jackson.test.util.serializer.JavaClassicSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufCodecSerializer;
 import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufSerializer;
 import ch.frostnova.test.jackson.test.util.serializer.Serializer;
 import com.fasterxml.jackson.core.JsonGenerator;
@@ -12,16 +14,32 @@ import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.text.DecimalFormat;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer.Operation.DESERIALIZE;
+import static ch.frostnova.test.jackson.test.util.serializer.InstrumentedSerializer.Operation.SERIALIZE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
- * Test JSON / YAML / XML / CBOR / Properties serialization
+ * Test JSON / YAML / XML / CBOR / Smile / Avro / Ion / Properties serialization
  *
  * @author pwalser
  * @since 22.06.2018
@@ -29,13 +47,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 class SerializationTest {
 
     private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat("0.##");
-    private static final long benchmarkTimeMs = 500;
+    private static final int MEASURED_OPERATIONS = 200;
+    private static final List<String> report = new ArrayList<>();
+
+    @AfterAll
+    static void printReport() {
+        System.out.printf("%n%-36s %8s %14s %14s %14s %14s%n", "Format", "Bytes", "ser. B/op", "ser. µs CPU", "deser. B/op", "deser. µs CPU");
+        report.forEach(System.out::println);
+    }
 
     @Test
     void testJSON() {
         testFormat("JSON", new JacksonSerializer<>(ObjectMappers.json(), Movie.class), false);
     }
 
+    @Test
+    void testJSONWire() {
+        testFormat("JSON (wire)", new JacksonSerializer<>(ObjectMappers.json(ObjectMappers.Profile.WIRE), Movie.class), false);
+    }
+
     @Test
     void testYAML() {
         testFormat("YAML", new JacksonSerializer<>(ObjectMappers.yaml(), Movie.class), false);
@@ -51,6 +81,21 @@ class SerializationTest {
         testFormat("CBOR", new JacksonSerializer<>(ObjectMappers.cbor(), Movie.class), true);
     }
 
+    @Test
+    void testSmile() {
+        testFormat("SMILE", new JacksonSerializer<>(ObjectMappers.smile(), Movie.class), true);
+    }
+
+    @Test
+    void testAvro() {
+        testFormat("AVRO", new JacksonSerializer<>(ObjectMappers.avro(), Movie.class, ObjectMappers.avroSchema(Movie.class)), true);
+    }
+
+    @Test
+    void testIon() {
+        testFormat("ION", new JacksonSerializer<>(ObjectMappers.ion(), Movie.class), true);
+    }
+
     @Test
     void testProperties() {
         testFormat("PROPERTIES", new JacksonSerializer<>(ObjectMappers.properties(), Movie.class), false);
@@ -61,6 +106,11 @@ class SerializationTest {
         testFormat("PROTOBUF", new MovieProtobufSerializer(), true);
     }
 
+    @Test
+    void testProtobufCodec() {
+        testFormat("PROTOBUF (codec)", new MovieProtobufCodecSerializer(), true);
+    }
+
     @Test
     void testHessian() {
         testFormat("HESSIAN", new HessianSerializer<>(Movie.class), true);
@@ -71,6 +121,18 @@ class SerializationTest {
         testFormat("JAVA CLASSIC SERIALIZATION", new JavaClassicSerializer<>(Movie.class), true);
     }
 
+    @Test
+    void testHessianPooled() {
+        testFormat("HESSIAN (pooled)", new HessianSerializer<>(Movie.class, true), true);
+        testPooled(new HessianSerializer<>(Movie.class), new HessianSerializer<>(Movie.class, true));
+    }
+
+    @Test
+    void testJavaClassicPooled() {
+        testFormat("JAVA CLASSIC SERIALIZATION (pooled)", new JavaClassicSerializer<>(Movie.class, true), true);
+        testPooled(new JavaClassicSerializer<>(Movie.class), new JavaClassicSerializer<>(Movie.class, true));
+    }
+
     @Test
     void testCSV() throws IOException {
 
@@ -106,9 +168,22 @@ class SerializationTest {
     }
 
     void testFormat(String displayName, Serializer<Movie> serializer, boolean binary) {
-        var value = Movie.create();
         testSerialize(serializer, binary);
-        benchmark(serializer, value);
+        // per-operation allocation and CPU time (indicative, for timing see SerializerBenchmark in src/jmh/java)
+        var instrumented = new InstrumentedSerializer<>(serializer);
+        var movie = Movie.create();
+        var serialized = instrumented.serialize(movie);
+        for (var i = 0; i < 2 * MEASURED_OPERATIONS; i++) {
+            if (i == MEASURED_OPERATIONS) {
+                instrumented.reset();
+            }
+            instrumented.deserialize(instrumented.serialize(movie));
+        }
+        var serialize = instrumented.getStatistics(SERIALIZE);
+        var deserialize = instrumented.getStatistics(DESERIALIZE);
+        report.add(String.format("%-36s %8d %14.0f %14.2f %14.0f %14.2f", displayName, serialized.length,
+                serialize.allocatedBytesPerOperation(), serialize.cpuTimeMicrosPerOperation(),
+                deserialize.allocatedBytesPerOperation(), deserialize.cpuTimeMicrosPerOperation()));
     }
 
     private void testSerialize(Serializer<Movie> serializer, boolean binary) {
@@ -122,6 +197,58 @@ class SerializationTest {
 
         var parsed = serializer.deserialize(serialized);
         verifyParsed(movie, parsed);
+
+        testSerializeStreaming(serializer, movie, serialized);
+    }
+
+    private void testSerializeStreaming(Serializer<Movie> serializer, Movie movie, byte[] serialized) {
+        var byteOut = new ByteArrayOutputStream();
+        serializer.serialize(movie, byteOut);
+        assertThat(byteOut.size()).isEqualTo(serialized.length);
+        verifyParsed(movie, serializer.deserialize(new ByteArrayInputStream(byteOut.toByteArray())));
+
+        for (var buffer : List.of(ByteBuffer.allocate(serialized.length + 16), ByteBuffer.allocateDirect(serialized.length + 16))) {
+            buffer.put((byte) 0x42);
+            serializer.serialize(movie, buffer);
+            assertThat(buffer.position()).isEqualTo(serialized.length + 1);
+            buffer.flip();
+            assertThat(buffer.get()).isEqualTo((byte) 0x42);
+            verifyParsed(movie, serializer.deserialize(buffer));
+            assertThat(buffer.hasRemaining()).isFalse();
+        }
+        assertThatThrownBy(() -> serializer.serialize(movie, ByteBuffer.allocate(serialized.length / 2)))
+                .satisfies(ex -> assertThat(Stream.iterate(ex, Objects::nonNull, Throwable::getCause))
+                        .hasAtLeastOneElementOfType(BufferOverflowException.class));
+    }
+
+    private void testPooled(Serializer<Movie> unpooled, Serializer<Movie> pooled) {
+        var movie = Movie.create();
+        var expected = unpooled.serialize(movie);
+
+        // recycled streams must not carry state (references, class definitions, buffered bytes) between payloads
+        for (int i = 0; i < 10; i++) {
+            assertThat(pooled.serialize(movie)).isEqualTo(expected);
+            verifyParsed(movie, pooled.deserialize(expected));
+        }
+
+        // concurrent use
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var tasks = IntStream.range(0, 8).<Callable<Void>>mapToObj(t -> () -> {
+                for (int i = 0; i < 200; i++) {
+                    assertThat(pooled.serialize(movie)).isEqualTo(expected);
+                    verifyParsed(movie, pooled.deserialize(expected));
+                }
+                return null;
+            }).toList();
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException ex) {
+            throw new AssertionError(ex);
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private String formatHex(byte[] data) {
@@ -138,43 +265,6 @@ class SerializationTest {
         return out.toString();
     }
 
-    private <T> void benchmark(Serializer<T> serializer, T value) {
-
-        var benchmarkTimeNs = benchmarkTimeMs * 1000000L;
-
-        //warmup
-        for (var i = 0; i < 1000; i++) {
-            var serialized = serializer.serialize(value);
-            serializer.deserialize(serialized);
-        }
-
-        var time = System.nanoTime();
-        var endTime = System.nanoTime() + benchmarkTimeNs;
-        long samples = 0;
-        while (System.nanoTime() < endTime) {
-            serializer.serialize(value);
-            samples++;
-        }
-        time = System.nanoTime() - time;
-        var serializationTimeNs = time / samples;
-
-        var serialized = serializer.serialize(value);
-        time = System.nanoTime();
-
-        endTime = System.nanoTime() + benchmarkTimeNs;
-        samples = 0;
-        while (System.nanoTime() < endTime) {
-            serializer.deserialize(serialized);
-            samples++;
-        }
-
-        time = System.nanoTime() - time;
-        var deserializationTimeNs = time / samples;
-        var sizeBytes = serializer.serialize(value).length;
-
-        System.out.printf("%d bytes, %.2f µS serialization, %.2f µS deserialization%n", sizeBytes, serializationTimeNs * 0.001, deserializationTimeNs * 0.001);
-    }
-
     private void verifyParsed(Movie original, Movie parsed) {
         assertThat(parsed.getTitle()).isEqualTo(original.getTitle());
         assertThat(parsed.getYear()).isEqualTo(original.getYear());
@@ -0,0 +1,142 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.converter.StringConstructorDeserializer;
+import ch.frostnova.test.jackson.test.util.util.LruCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link StringConstructorDeserializer} and its {@link LruCache}
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class StringConstructorDeserializerTest {
+
+    private static final TypeReference<List<Code>> CODES = new TypeReference<>() {
+    };
+
+    @Test
+    void testConstructor() throws IOException {
+        var deserializer = new CodeDeserializer(0);
+        var codes = mapper(Code.class, deserializer).readValue("[\"A-1\", \"B-2\", \"\", \"A-1\"]", CODES);
+
+        assertThat(codes).containsExactly(new Code("A-1"), new Code("B-2"), null, new Code("A-1"));
+        assertThat(codes.get(0)).isNotSameAs(codes.get(3));
+        assertThat(deserializer.getCacheStatistics()).isEmpty();
+
+        assertThatThrownBy(() -> mapper(Code.class, deserializer).readValue("[\"nope\"]", CODES))
+                .hasMessageContaining("Failed to deserialize value 'nope'")
+                .hasMessageContaining("IllegalArgumentException: Illegal code: nope")
+                .hasRootCauseInstanceOf(IllegalArgumentException.class).hasRootCauseMessage("Illegal code: nope");
+    }
+
+    @Test
+    void testValueOfFactory() throws IOException {
+        var before = Token.created.get();
+        var deserializer = new StringConstructorDeserializer<>(Token.class) {
+        };
+        var tokens = mapper(Token.class, deserializer).readValue("[\"x\", \"y\", \"x\"]", new TypeReference<List<Token>>() {
+        });
+
+        assertThat(tokens).extracting(t -> t.value).containsExactly("x", "y", "x");
+        assertThat(tokens).allSatisfy(token -> assertThat(token.viaValueOf).isTrue());
+        assertThat(Token.created.get() - before).isEqualTo(3);
+    }
+
+    @Test
+    void testCache() throws IOException {
+        var deserializer = new CodeDeserializer(2);
+        var mapper = mapper(Code.class, deserializer);
+
+        var codes = mapper.readValue("[\"A-1\", \"B-2\", \"A-1\", \"C-3\", \"B-2\", \"A-1\"]", CODES);
+
+        // A-1 hit, C-3 evicts B-2 (least recently used), B-2 miss evicts A-1, A-1 miss
+        assertThat(codes.get(0)).isSameAs(codes.get(2));
+        assertThat(codes.get(1)).isNotSameAs(codes.get(4));
+        assertThat(deserializer.getCacheStatistics()).hasValueSatisfying(statistics -> {
+            assertThat(statistics.hits()).isEqualTo(1);
+            assertThat(statistics.misses()).isEqualTo(5);
+            assertThat(statistics.evictions()).isEqualTo(3);
+            assertThat(statistics.size()).isEqualTo(2);
+            assertThat(statistics.maxSize()).isEqualTo(2);
+            assertThat(statistics.hitRate()).isEqualTo(1 / 6d);
+        });
+
+        // failures are not cached
+        assertThatThrownBy(() -> mapper.readValue("[\"nope\"]", CODES)).isInstanceOf(IOException.class);
+        assertThat(deserializer.getCacheStatistics()).hasValueSatisfying(statistics -> assertThat(statistics.size()).isEqualTo(2));
+    }
+
+    @Test
+    void testMissingFactory() {
+        assertThatThrownBy(() -> new StringConstructorDeserializer<>(Object.class) {
+        }).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("valueOf(String)");
+    }
+
+    private static <T> ObjectMapper mapper(Class<T> type, StringConstructorDeserializer<T> deserializer) {
+        var module = new SimpleModule();
+        module.addDeserializer(type, deserializer);
+        return new ObjectMapper().registerModule(module);
+    }
+
+    public static final class Code {
+
+        private final String value;
+
+        public Code(String value) {
+            if (!value.matches("[A-Z]-\\d")) {
+                throw new IllegalArgumentException("Illegal code: " + value);
+            }
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Code other && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+
+    public static final class Token {
+
+        private static final AtomicInteger created = new AtomicInteger();
+
+        private final String value;
+        private final boolean viaValueOf;
+
+        public Token(String value) {
+            this(value, false);
+        }
+
+        private Token(String value, boolean viaValueOf) {
+            this.value = value;
+            this.viaValueOf = viaValueOf;
+            created.incrementAndGet();
+        }
+
+        public static Token valueOf(String value) {
+            return new Token(value, true);
+        }
+    }
+
+    static class CodeDeserializer extends StringConstructorDeserializer<Code> {
+        CodeDeserializer(int cacheSize) {
+            super(Code.class, cacheSize);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.serializer.HessianSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.JacksonSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufCodecSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufSerializer;
+import ch.frostnova.test.jackson.test.util.serializer.Serializer;
+import ch.frostnova.test.jackson.test.util.util.StringPool;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for {@link StringPool} and its use in the serializers
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class StringPoolTest {
+
+    private static final int CATALOG_SIZE = 5000;
+
+    @Test
+    void testIntern() {
+        var pool = new StringPool(16, 8);
+
+        var first = pool.intern(new String("director"));
+        var second = pool.intern(new String("director"));
+        assertThat(second).isSameAs(first);
+        assertThat(pool.intern(null)).isNull();
+
+        // longer than the maximum length: not pooled
+        var longValue = new String("release-date");
+        assertThat(pool.intern(longValue)).isSameAs(longValue);
+        assertThat(pool.intern(new String("release-date"))).isNotSameAs(longValue);
+
+        var statistics = pool.getStatistics();
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(1);
+        assertThat(statistics.evictions()).isZero();
+        assertThat(statistics.size()).isEqualTo(1);
+        assertThat(statistics.capacity()).isEqualTo(16);
+        assertThat(statistics.hitRate()).isEqualTo(0.5);
+
+        pool.clear();
+        assertThat(pool.getStatistics().size()).isZero();
+        assertThat(pool.intern(new String("director"))).isNotSameAs(first);
+    }
+
+    @Test
+    void testEviction() {
+        // a single set of two slots: the oldest entry is evicted
+        var pool = new StringPool(2);
+        var a = pool.intern(new String("a"));
+        var b = pool.intern(new String("b"));
+        assertThat(pool.intern(new String("a"))).isSameAs(a);
+        pool.intern("c");
+        assertThat(pool.intern(new String("b"))).isSameAs(b);
+        assertThat(pool.intern(new String("a"))).isNotSameAs(a);
+
+        var statistics = pool.getStatistics();
+        assertThat(statistics.hits()).isEqualTo(2);
+        assertThat(statistics.misses()).isEqualTo(4);
+        assertThat(statistics.evictions()).isEqualTo(2);
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.capacity()).isEqualTo(2);
+
+        assertThat(new StringPool(1000).getCapacity()).isEqualTo(1024);
+        assertThatThrownBy(() -> new StringPool(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        var pool = new StringPool(256);
+        var threads = 8;
+        var lookups = 50_000;
+        var executor = Executors.newFixedThreadPool(threads);
+        try {
+            var tasks = new ArrayList<Callable<Boolean>>();
+            for (var t = 0; t < threads; t++) {
+                var random = new Random(t);
+                tasks.add(() -> {
+                    for (var i = 0; i < lookups; i++) {
+                        var value = "value-" + random.nextInt(1000);
+                        if (!pool.intern(value).equals(value)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                });
+            }
+            for (var result : executor.invokeAll(tasks)) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        var statistics = pool.getStatistics();
+        assertThat(statistics.hits() + statistics.misses()).isEqualTo((long) threads * lookups);
+        assertThat(statistics.size()).isLessThanOrEqualTo(256);
+    }
+
+    @Test
+    void testCatalogFootprint() {
+        var catalog = catalog();
+        System.out.printf("%n%-22s %16s %16s %12s%n", "Catalog (" + CATALOG_SIZE + ")", "strings", "pooled strings", "hit rate");
+        testCatalog("JSON", catalog, pool -> new JacksonSerializer<>(ObjectMappers.json(ObjectMappers.Profile.WIRE), Movie.class, null, pool));
+        testCatalog("CBOR", catalog, pool -> new JacksonSerializer<>(ObjectMappers.cbor(), Movie.class, null, pool));
+        testCatalog("Protobuf", catalog, MovieProtobufSerializer::new);
+        testCatalog("Protobuf (codec)", catalog, MovieProtobufCodecSerializer::new);
+        testCatalog("Hessian", catalog, pool -> new HessianSerializer<>(Movie.class, true, pool));
+    }
+
+    private static void testCatalog(String name, List<Movie> catalog, Function<StringPool, Serializer<Movie>> serializerFactory) {
+        var serializer = serializerFactory.apply(null);
+        var serialized = catalog.stream().map(serializer::serialize).toList();
+
+        var plain = serialized.stream().map(serializer::deserialize).toList();
+        var pool = new StringPool(16_384);
+        var pooledSerializer = serializerFactory.apply(pool);
+        var pooled = serialized.stream().map(pooledSerializer::deserialize).toList();
+
+        for (var i = 0; i < catalog.size(); i++) {
+            assertThat(serializer.serialize(pooled.get(i))).isEqualTo(serializer.serialize(plain.get(i)));
+        }
+        assertThat(pooled.get(0).getMetadata().getKeys().iterator().next())
+                .isSameAs(pooled.get(1).getMetadata().getKeys().iterator().next());
+
+        var plainStrings = strings(plain);
+        var pooledStrings = strings(pooled);
+        var statistics = pool.getStatistics();
+        System.out.printf("%-22s %8d %5d KB %8d %5d KB %11.1f%%%n", name,
+                plainStrings.size(), footprint(plainStrings) / 1024, pooledStrings.size(), footprint(pooledStrings) / 1024,
+                statistics.hitRate() * 100);
+        assertThat(footprint(pooledStrings)).isLessThan(footprint(plainStrings) * 3 / 4);
+    }
+
+    /**
+     * Synthetic catalog: unique titles and synopses, repeating metadata, rating sources and actor names.
+     */
+    private static List<Movie> catalog() {
+        var random = new Random(42);
+        var firstNames = names("First", 300);
+        var lastNames = names("Last", 400);
+        var directors = names("Director", 200);
+        var studios = names("Studio", 20);
+        var languages = List.of("English", "French", "German", "Italian", "Japanese", "Korean", "Spanish");
+        var sources = List.of("IMDB", "Metacritic", "Rotten Tomatoes", "Letterboxd");
+        var genres = Genre.values();
+
+        var catalog = new ArrayList<Movie>();
+        for (var i = 0; i < CATALOG_SIZE; i++) {
+            var builder = Movie.builder()
+                    .title("Movie " + i)
+                    .year(1950 + random.nextInt(75))
+                    .addGenre(genres[random.nextInt(genres.length)])
+                    .synopsis("Synopsis of movie " + i + ", long enough to be different from all the other synopses.")
+                    .aspectRatio(AspectRatio.valueOf(random.nextBoolean() ? "16:9" : "2.39:1"))
+                    .duration(Duration.ofMinutes(80 + random.nextInt(100)))
+                    .addMetadata("director", pick(random, directors))
+                    .addMetadata("studio", pick(random, studios))
+                    .addMetadata("language", pick(random, languages))
+                    .addMetadata("release-date", LocalDate.of(2000, 1, 1).plusDays(random.nextInt(3650)).toString());
+            sources.forEach(source -> builder.addRating(source, random.nextInt(100)));
+            for (var a = 0; a < 4; a++) {
+                builder.addActor(new Actor(pick(random, firstNames), pick(random, lastNames), LocalDate.of(1940 + random.nextInt(50), 1, 1)));
+            }
+            catalog.add(builder.get());
+        }
+        return catalog;
+    }
+
+    private static List<String> names(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+    }
+
+    private static String pick(Random random, List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Distinct string instances (by identity) held by the movies.
+     */
+    private static Set<String> strings(List<Movie> movies) {
+        var strings = Collections.newSetFromMap(new IdentityHashMap<String, Boolean>());
+        for (var movie : movies) {
+            strings.add(movie.getTitle());
+            strings.add(movie.getSynopsis());
+            strings.addAll(movie.getRatings().keySet());
+            for (var key : movie.getMetadata().getKeys()) {
+                strings.add(key);
+                movie.getMetadata().get(key).ifPresent(strings::add);
+            }
+            for (var actor : movie.getActors()) {
+                strings.add(actor.getFirstName());
+                strings.add(actor.getLastName());
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Estimated heap footprint of compact (Latin-1) strings: 24 bytes for the string object, plus the byte array (16
+     * bytes header, length rounded up to 8 bytes).
+     */
+    private static long footprint(Set<String> strings) {
+        return strings.stream().mapToLong(s -> 24 + ((16 + s.length() + 7) & ~7)).sum();
+    }
+}
@@ -0,0 +1,48 @@
+package ch.frostnova.test.jackson.test;
+
+import ch.frostnova.test.jackson.test.util.converter.MetadataConverter;
+import ch.frostnova.test.jackson.test.util.domain.Metadata;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Original tree-based {@link Metadata} deserializer, kept as reference for the streaming
+ * {@link MetadataConverter.Deserializer} (differential test and benchmark).
+ *
+ * @author pwalser
+ * @since 25.01.2019
+ */
+public class TreeMetadataDeserializer extends JsonDeserializer<Metadata> {
+
+    /**
+     * Copy of a mapper, using this deserializer for {@link Metadata}.
+     *
+     * @param mapper mapper, required
+     * @return mapper copy
+     */
+    public static ObjectMapper use(ObjectMapper mapper) {
+        return mapper.copy().addMixIn(Metadata.class, MetadataMixIn.class);
+    }
+
+    @Override
+    public Metadata deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+        var metadata = new Metadata();
+        JsonNode node = jsonParser.getCodec().readTree(jsonParser);
+        node.fieldNames().forEachRemaining(field -> {
+            var value = node.get(field);
+            metadata.set(field, Optional.ofNullable(value).map(JsonNode::asText).orElse(null));
+        });
+        return metadata;
+    }
+
+    @JsonDeserialize(using = TreeMetadataDeserializer.class)
+    private interface MetadataMixIn {
+    }
+}
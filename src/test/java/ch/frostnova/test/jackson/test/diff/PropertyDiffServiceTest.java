@@ -1,14 +1,57 @@
 package ch.frostnova.test.jackson.test.diff;
 
 import ch.frostnova.test.jackson.test.util.ObjectMappers;
+import ch.frostnova.test.jackson.test.util.diff.ArrayAlignment;
 import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.DiffPair;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.Flattening;
+import ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.ResultOrder;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
 import ch.frostnova.test.jackson.test.util.domain.AspectRatio;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
 import ch.frostnova.test.jackson.test.util.domain.Movie;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.Flattening.STREAMING;
+import static ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.Flattening.TREE;
+import static ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.ResultOrder.ORDERED;
+import static ch.frostnova.test.jackson.test.util.diff.PropertyDiffService.ResultOrder.UNORDERED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 class PropertyDiffServiceTest {
 
@@ -71,4 +114,555 @@ class PropertyDiffServiceTest {
                 new PropertyDiffService.PropertyDiff("actors[2].lastName", "Young", null),
                 new PropertyDiffService.PropertyDiff("synopsis", null, after.getSynopsis()));
     }
+
+    @Test
+    void shouldFlattenLikeTree() {
+        var movie = Movie.create();
+        for (var i = 0; i < 100; i++) {
+            movie.getActors().add(new Actor("First" + i, "Last" + i, LocalDate.of(1950, 1, 1).plusDays(i * 100L)));
+        }
+        assertSameFlattening(objectMapper, movie);
+        assertSameFlattening(objectMapper, after);
+        assertSameFlattening(objectMapper, new Movie());
+    }
+
+    @Test
+    void shouldFlattenValuesLikeTree() {
+        var values = new LinkedHashMap<String, Object>();
+        values.put("", "empty name");
+        values.put("nested", Map.of("", Map.of("x", 1), "list", List.of(List.of(), List.of(1, 2), Map.of())));
+        values.put("nulls", Arrays.asList(null, "b", null, Map.of("c", true)));
+        values.put("numbers", List.of((byte) 1, (short) 2, 3, 4L, BigInteger.TEN.pow(30), 0.1f, 3.3f, 1e-7f, 8.2, 1e300,
+                Double.NaN, new BigDecimal("1.50"), new BigDecimal("1E+3")));
+        values.put("binary", new byte[]{0, 1, 2, 3, 127, -128});
+        values.put("raw", new RawValue("{\"a\":[1,{\"b\":null},2.50]}"));
+        values.put("text", "line\nbreak, \"quotes\" and unicode \u00e9\u4e2d");
+
+        assertSameFlattening(objectMapper, values);
+        assertSameFlattening(objectMapper.copy().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS), values);
+        assertSameFlattening(objectMapper, List.of(1, "two", 3.0));
+        assertSameFlattening(objectMapper, "scalar");
+    }
+
+    @Test
+    void shouldFlattenOtherFormatsWithTree() {
+        var xmlMapper = ObjectMappers.xml();
+        var movie = Movie.create();
+        assertThat(new PropertyDiffService(xmlMapper, STREAMING).listPropertyPaths(movie))
+                .isEqualTo(new PropertyDiffService(xmlMapper, TREE).listPropertyPaths(movie));
+    }
+
+    private static void assertSameFlattening(ObjectMapper objectMapper, Object value) {
+        var tree = new PropertyDiffService(objectMapper, TREE).listPropertyPaths(value);
+        var streaming = new PropertyDiffService(objectMapper, STREAMING).listPropertyPaths(value);
+        assertThat(streaming).containsExactlyEntriesOf(tree);
+    }
+
+    @Test
+    void shouldDiffLikeTree() {
+        var random = new Random(42);
+        var tree = new PropertyDiffService(objectMapper, TREE);
+        var streaming = new PropertyDiffService(objectMapper, STREAMING);
+        for (var i = 0; i < 2000; i++) {
+            var before = randomValue(random, 0);
+            var after = mutate(random, before, 0);
+            if (before == null || after == null) {
+                continue;
+            }
+            assertThat(streaming.diff(before, after)).as("diff of %s and %s", before, after)
+                    .containsExactlyElementsOf(tree.diff(before, after));
+        }
+        assertThat(streaming.diff(before, after)).isEmpty();
+        after.setTitle("Changed");
+        assertThat(streaming.diff(before, after)).containsExactlyElementsOf(tree.diff(before, after));
+    }
+
+    @Test
+    void shouldDiffInDocumentOrder() {
+        var before = new LinkedHashMap<String, Object>();
+        before.put("b", 1);
+        before.put("a", Map.of("x", 1));
+        before.put("c", List.of(1, 2));
+        var after = new LinkedHashMap<String, Object>();
+        after.put("c", List.of(1, 3, 4));
+        after.put("a", Map.of("x", 2));
+        after.put("d", "new");
+
+        var diffs = new ArrayList<PropertyDiffService.PropertyDiff>();
+        propertyDiffService.diff(before, after, diffs::add);
+        // 'b' and 'c' are out of order: 'c' is compared when found in before, 'b' and 'd' are reported at the end
+        assertThat(diffs).containsExactly(
+                new PropertyDiffService.PropertyDiff("a.x", "1", "2"),
+                new PropertyDiffService.PropertyDiff("c[1]", "2", "3"),
+                new PropertyDiffService.PropertyDiff("c[2]", null, "4"),
+                new PropertyDiffService.PropertyDiff("b", "1", null),
+                new PropertyDiffService.PropertyDiff("d", null, "new"));
+        assertThat(propertyDiffService.diff(before, after)).containsExactly(
+                new PropertyDiffService.PropertyDiff("a.x", "1", "2"),
+                new PropertyDiffService.PropertyDiff("c[1]", "2", "3"),
+                new PropertyDiffService.PropertyDiff("c[2]", null, "4"),
+                new PropertyDiffService.PropertyDiff("d", null, "new"),
+                new PropertyDiffService.PropertyDiff("b", "1", null));
+    }
+
+    @Test
+    void shouldDiffDocuments() throws IOException {
+        before.setSynopsis(null);
+        after.setTitle("Changed");
+        after.setAspectRatio(new AspectRatio(4, 3));
+        after.getActors().remove(0);
+        after.getMetadata().set("new", "value");
+        after.getRatings().put("IMDB", 8.5);
+
+        for (var mapper : List.of(ObjectMappers.json(), ObjectMappers.yaml(), ObjectMappers.xml(), ObjectMappers.cbor(),
+                ObjectMappers.smile(), ObjectMappers.ion(), ObjectMappers.properties())) {
+            var beforeDocument = mapper.writeValueAsBytes(before);
+            var afterDocument = mapper.writeValueAsBytes(after);
+
+            var diff = new PropertyDiffService(mapper).diff(new ByteArrayInputStream(beforeDocument), new ByteArrayInputStream(afterDocument));
+            assertThat(diff).as(mapper.getFactory().getFormatName())
+                    .isNotEmpty()
+                    .containsExactlyElementsOf(treeDiff(mapper, beforeDocument, afterDocument));
+        }
+    }
+
+    @Test
+    void shouldDiffRandomDocumentsLikeTree() throws IOException {
+        var random = new Random(7);
+        for (var mapper : List.of(ObjectMappers.json(), ObjectMappers.cbor(), ObjectMappers.yaml())) {
+            var documentDiffService = new PropertyDiffService(mapper);
+            for (var i = 0; i < 500; i++) {
+                var beforeDocument = mapper.writeValueAsBytes(randomValue(random, 0));
+                var afterDocument = mapper.writeValueAsBytes(mutate(random, mapper.readValue(beforeDocument, Object.class), 0));
+                assertThat(documentDiffService.diff(new ByteArrayInputStream(beforeDocument), new ByteArrayInputStream(afterDocument)))
+                        .containsExactlyElementsOf(treeDiff(mapper, beforeDocument, afterDocument));
+            }
+        }
+    }
+
+    @Test
+    void shouldDiffFiles(@TempDir Path directory) throws IOException {
+        after.setTitle("Changed");
+        var beforeFile = directory.resolve("before.json");
+        var afterFile = directory.resolve("after.json");
+        Files.write(beforeFile, objectMapper.writeValueAsBytes(before));
+        Files.write(afterFile, objectMapper.writeValueAsBytes(after));
+
+        assertThat(propertyDiffService.diff(beforeFile, afterFile))
+                .containsExactly(new PropertyDiffService.PropertyDiff("title", "Blade Runner", "Changed"));
+        assertThat(propertyDiffService.diff(beforeFile, beforeFile)).isEmpty();
+    }
+
+    @Test
+    void shouldDiffAllInOrder() throws InterruptedException {
+        var pairs = randomPairs(500);
+        var executor = new ForkJoinPool(4);
+        try {
+            var indices = new ArrayList<Long>();
+            var results = new ArrayList<List<PropertyDiffService.PropertyDiff>>();
+            propertyDiffService.diffAll(pairs.stream(), executor, 8, ORDERED, (index, pair, diffs) -> {
+                assertThat(pair).isSameAs(pairs.get((int) index));
+                indices.add(index);
+                results.add(diffs);
+            });
+
+            assertThat(indices).containsExactlyElementsOf(LongStream.range(0, pairs.size()).boxed().toList());
+            for (var i = 0; i < pairs.size(); i++) {
+                assertThat(results.get(i)).containsExactlyElementsOf(propertyDiffService.diff(pairs.get(i).before(), pairs.get(i).after()));
+            }
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void shouldDiffAllUnordered() throws InterruptedException {
+        var pairs = randomPairs(500);
+        var executor = new ForkJoinPool(4);
+        try {
+            var results = new ConcurrentHashMap<Long, List<PropertyDiffService.PropertyDiff>>();
+            propertyDiffService.diffAll(pairs.iterator(), executor, 8, UNORDERED, (index, pair, diffs) ->
+                    assertThat(results.put(index, diffs)).isNull());
+
+            assertThat(results).hasSize(pairs.size());
+            for (var i = 0; i < pairs.size(); i++) {
+                assertThat(results.get((long) i)).containsExactlyElementsOf(propertyDiffService.diff(pairs.get(i).before(), pairs.get(i).after()));
+            }
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void shouldLimitPairsInFlight() throws InterruptedException {
+        var pairs = randomPairs(200);
+        var executor = new ForkJoinPool(4);
+        try {
+            for (var order : ResultOrder.values()) {
+                var taken = new AtomicInteger();
+                var delivered = new AtomicInteger();
+                var maxInFlight = new AtomicInteger();
+                var source = pairs.iterator();
+                var iterator = new Iterator<DiffPair<Object>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return source.hasNext();
+                    }
+
+                    @Override
+                    public DiffPair<Object> next() {
+                        maxInFlight.accumulateAndGet(taken.incrementAndGet() - delivered.get(), Math::max);
+                        return source.next();
+                    }
+                };
+                propertyDiffService.diffAll(iterator, executor, 3, order, (index, pair, diffs) -> {
+                    LockSupport.parkNanos(100_000); // slow sink
+                    delivered.incrementAndGet();
+                });
+
+                assertThat(delivered).hasValue(pairs.size());
+                assertThat(maxInFlight.get()).as("max. pairs in flight (%s)", order).isBetween(1, 3);
+            }
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void shouldPropagateBulkDiffFailures() throws InterruptedException {
+        var executor = new ForkJoinPool(4);
+        try {
+            for (var order : ResultOrder.values()) {
+                // diff failure (value cannot be serialized), with an endless supply of pairs
+                var taken = new AtomicLong();
+                var pairs = Stream.iterate(0L, i -> i + 1)
+                        .peek(i -> taken.incrementAndGet())
+                        .map(i -> new DiffPair<Object>(i == 100 ? new Object() : i, i));
+                assertThatThrownBy(() -> propertyDiffService.diffAll(pairs, executor, 4, order, (index, pair, diffs) -> {
+                })).isInstanceOf(RuntimeException.class);
+                assertThat(taken.get()).isBetween(101L, 106L);
+
+                // sink failure
+                var failure = new IllegalStateException("sink failure");
+                assertThatThrownBy(() -> propertyDiffService.diffAll(Stream.iterate(0L, i -> i + 1).map(i -> new DiffPair<Object>(i, i)),
+                        executor, 4, order, (index, pair, diffs) -> {
+                            if (index == 10) {
+                                throw failure;
+                            }
+                        })).isSameAs(failure);
+
+                // executor failure (such as a closed custom executor), with pairs still in flight
+                var executorFailure = new IllegalStateException("executor closed");
+                var executed = new AtomicInteger();
+                Executor failingExecutor = task -> {
+                    if (executed.incrementAndGet() > 20) {
+                        throw executorFailure;
+                    }
+                    executor.execute(() -> {
+                        LockSupport.parkNanos(1_000_000);
+                        task.run();
+                    });
+                };
+                assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertThatThrownBy(() -> propertyDiffService.diffAll(
+                        Stream.iterate(0L, i -> i + 1).map(i -> new DiffPair<Object>(i, i)), failingExecutor, 4, order, (index, pair, diffs) -> {
+                        })).isSameAs(executorFailure));
+            }
+            assertThatThrownBy(() -> propertyDiffService.diffAll(Stream.<DiffPair<Object>>empty(), executor, 0, ORDERED, (index, pair, diffs) -> {
+            })).isInstanceOf(IllegalArgumentException.class);
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    @Test
+    void shouldDiffAgainstBaseline() {
+        var tree = new PropertyDiffService(objectMapper, TREE);
+        for (var service : List.of(tree, propertyDiffService)) {
+            for (var pair : randomPairs(1000)) {
+                assertThat(service.baseline(pair.before()).diff(pair.after())).as("diff of %s and %s", pair.before(), pair.after())
+                        .containsExactlyElementsOf(tree.diff(pair.before(), pair.after()));
+            }
+        }
+        assertThat(propertyDiffService.baseline(before).diff(after)).isEmpty();
+    }
+
+    @Test
+    void shouldDiffAgainstBaselineWithAlignment() {
+        var alignment = ArrayAlignment.LCS.withKey("actors", "firstName", "lastName", "dateOfBirth");
+        for (var flattening : Flattening.values()) {
+            var aligned = new PropertyDiffService(objectMapper, flattening, alignment);
+            for (var pair : randomPairs(300)) {
+                assertThat(aligned.baseline(pair.before()).diff(pair.after())).as("%s diff of %s and %s", flattening, pair.before(), pair.after())
+                        .containsExactlyElementsOf(aligned.diff(pair.before(), pair.after()));
+            }
+            var movie = clone(before);
+            movie.getActors().add(0, new Actor("Inserted", "Actor", LocalDate.of(1970, 1, 1)));
+            var baseline = aligned.baseline(before);
+            assertThat(baseline.diff(movie)).as("%s", flattening).containsExactlyElementsOf(aligned.diff(before, movie));
+            assertThat(baseline.diff(movie)).as("%s", flattening).allMatch(diff -> diff.getPropertyPath().startsWith("actors[0]"));
+
+            var diffs = new ArrayList<PropertyDiffService.PropertyDiff>();
+            baseline.diff(movie, diffs::add);
+            assertThat(diffs).as("%s", flattening).containsExactlyInAnyOrderElementsOf(aligned.diff(before, movie));
+        }
+    }
+
+    @Test
+    void shouldShareBaseline() throws InterruptedException {
+        var baseline = propertyDiffService.baseline(before);
+        var afters = new ArrayList<Movie>();
+        for (var i = 0; i < 200; i++) {
+            var movie = clone(before);
+            movie.setTitle("Title " + i);
+            movie.setYear(1900 + i);
+            movie.getActors().remove(i % movie.getActors().size());
+            afters.add(movie);
+        }
+        var executor = new ForkJoinPool(4);
+        try {
+            var results = executor.submit(() -> afters.parallelStream().map(baseline::diff).toList()).join();
+            for (var i = 0; i < afters.size(); i++) {
+                assertThat(results.get(i)).containsExactlyElementsOf(propertyDiffService.diff(before, afters.get(i)));
+            }
+        } finally {
+            shutdown(executor);
+        }
+    }
+
+    private static List<DiffPair<Object>> randomPairs(int count) {
+        var random = new Random(42);
+        var pairs = new ArrayList<DiffPair<Object>>();
+        while (pairs.size() < count) {
+            var before = randomValue(random, 0);
+            var after = mutate(random, before, 0);
+            if (before != null && after != null) {
+                pairs.add(new DiffPair<>(before, after));
+            }
+        }
+        return pairs;
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldAlignArraysByKey() {
+        var aligned = new PropertyDiffService(objectMapper, STREAMING, ArrayAlignment.POSITION.withKey("actors", "firstName", "lastName", "dateOfBirth"));
+        for (var i = 0; i < 200; i++) {
+            before.getActors().add(new Actor("First" + i, "Last" + i, LocalDate.of(1950, 1, 1).plusDays(i)));
+        }
+        after = clone(before);
+        var sean = after.getActors().remove(2);
+        after.getActors().add(0, new Actor("Daryl", "Hannah", LocalDate.of(1960, 12, 3)));
+        after.getActors().add(100, sean);
+        var age = after.getActors().get(0).getAge();
+
+        assertThat(aligned.diff(before, after)).containsExactly(
+                new PropertyDiffService.PropertyDiff("actors[0].age", null, String.valueOf(age)),
+                new PropertyDiffService.PropertyDiff("actors[0].dateOfBirth", null, "1960-12-03"),
+                new PropertyDiffService.PropertyDiff("actors[0].firstName", null, "Daryl"),
+                new PropertyDiffService.PropertyDiff("actors[0].lastName", null, "Hannah"));
+        assertThat(propertyDiffService.diff(before, after)).hasSizeGreaterThan(300);
+
+        after.getActors().remove(0);
+        after.getActors().remove(50);
+        assertThat(aligned.diff(before, after)).extracting(PropertyDiffService.PropertyDiff::getPropertyPath)
+                .containsExactly("actors[51].age", "actors[51].dateOfBirth", "actors[51].firstName", "actors[51].lastName");
+        assertThat(aligned.diff(after, after)).isEmpty();
+    }
+
+    @Test
+    void shouldAlignArraysInTrees() throws IOException {
+        var alignment = ArrayAlignment.LCS.withKey("actors", "firstName", "lastName", "dateOfBirth");
+        after.getActors().add(0, new Actor("Daryl", "Hannah", LocalDate.of(1960, 12, 3)));
+        after.setGenres(List.of(Genre.ACTION, Genre.SCI_FI, Genre.THRILLER));
+        var expected = new PropertyDiffService(objectMapper, STREAMING, alignment).diff(before, after);
+        assertThat(expected).hasSize(5);
+
+        assertThat(new PropertyDiffService(objectMapper, TREE, alignment).diff(before, after)).containsExactlyElementsOf(expected);
+        var yaml = ObjectMappers.yaml();
+        var yamlService = new PropertyDiffService(yaml, STREAMING, alignment);
+        assertThat(yamlService.diff(before, after)).containsExactlyElementsOf(expected);
+        assertThat(yamlService.diff(new ByteArrayInputStream(yaml.writeValueAsBytes(before)), new ByteArrayInputStream(yaml.writeValueAsBytes(after))))
+                .containsExactlyElementsOf(expected);
+        // XML documents (read as trees): repeated elements are arrays named by the element
+        var xml = ObjectMappers.xml();
+        var xmlService = new PropertyDiffService(xml, STREAMING, ArrayAlignment.LCS.withKey("actor", "firstName", "lastName", "dateOfBirth"));
+        assertThat(xmlService.diff(new ByteArrayInputStream(xml.writeValueAsBytes(before)), new ByteArrayInputStream(xml.writeValueAsBytes(after))))
+                .extracting(PropertyDiffService.PropertyDiff::getPropertyPath)
+                .containsExactly("actor[0].age", "actor[0].dateOfBirth", "actor[0].firstName", "actor[0].lastName", "genre[0]");
+    }
+
+    @Test
+    void shouldCompareElementsWithSameKey() {
+        var aligned = new PropertyDiffService(objectMapper, STREAMING, ArrayAlignment.POSITION
+                .withKey("items", "id")
+                .withKey("items.parts", "type", "number"));
+        var before = Map.of("items", List.of(
+                Map.of("id", 1, "name", "a", "parts", List.of(Map.of("type", "x", "number", 1, "size", 10), Map.of("type", "x", "number", 2, "size", 20))),
+                Map.of("id", 2, "name", "b"),
+                Map.of("id", 3, "name", "c")));
+        var after = Map.of("items", List.of(
+                Map.of("id", 3, "name", "c"),
+                Map.of("id", 4, "name", "d"),
+                Map.of("id", 1, "name", "A", "parts", List.of(Map.of("type", "x", "number", 2, "size", 21), Map.of("type", "x", "number", 1, "size", 10)))));
+
+        assertThat(aligned.diff(before, after)).containsExactly(
+                new PropertyDiffService.PropertyDiff("items[2].name", "a", "A"),
+                new PropertyDiffService.PropertyDiff("items[2].parts[0].size", "20", "21"),
+                new PropertyDiffService.PropertyDiff("items[1].id", null, "4"),
+                new PropertyDiffService.PropertyDiff("items[1].name", null, "d"),
+                new PropertyDiffService.PropertyDiff("items[1].id", "2", null),
+                new PropertyDiffService.PropertyDiff("items[1].name", "b", null));
+    }
+
+    @Test
+    void shouldAlignScalarArrays() {
+        var aligned = new PropertyDiffService(objectMapper, STREAMING, ArrayAlignment.LCS);
+
+        after.setGenres(List.of(Genre.ACTION, Genre.SCI_FI, Genre.THRILLER));
+        assertThat(aligned.diff(before, after)).containsExactly(new PropertyDiffService.PropertyDiff("genres[0]", null, "Action"));
+        assertThat(propertyDiffService.diff(before, after)).hasSize(3);
+
+        after.setGenres(List.of(Genre.SCI_FI, Genre.COMEDY));
+        assertThat(aligned.diff(before, after)).containsExactly(new PropertyDiffService.PropertyDiff("genres[1]", "Thriller", "Comedy"));
+
+        after.setGenres(List.of(Genre.THRILLER));
+        assertThat(aligned.diff(before, after)).containsExactly(new PropertyDiffService.PropertyDiff("genres[0]", "Sci-Fi", null));
+
+        // arrays of objects without key are compared by position
+        after = clone(before);
+        after.getActors().remove(0);
+        assertThat(aligned.diff(before, after)).containsExactlyElementsOf(propertyDiffService.diff(before, after));
+    }
+
+    @Test
+    void shouldAlignRandomScalarArrays() {
+        var random = new Random(42);
+        var aligned = new PropertyDiffService(objectMapper, STREAMING, ArrayAlignment.LCS);
+        for (var i = 0; i < 1000; i++) {
+            var before = randomSequence(random);
+            var after = new ArrayList<>(before);
+            for (var edits = random.nextInt(4); edits > 0; edits--) {
+                var index = after.isEmpty() ? 0 : random.nextInt(after.size());
+                switch (after.isEmpty() ? 0 : random.nextInt(3)) {
+                    case 0 -> after.add(index, "v" + random.nextInt(5));
+                    case 1 -> after.remove(Math.min(index, after.size() - 1));
+                    default -> after.set(Math.min(index, after.size() - 1), "v" + random.nextInt(5));
+                }
+            }
+            var diffs = aligned.diff(List.of(before), List.of(after));
+            var lcs = lcs(before, after);
+
+            assertThat(diffs.isEmpty()).as("diff of %s and %s", before, after).isEqualTo(before.equals(after));
+            assertThat(diffs).as("diff of %s and %s", before, after)
+                    .hasSizeBetween(Math.max(before.size(), after.size()) - lcs, before.size() + after.size() - 2 * lcs);
+            // the elements after that were not reported are in the same order before
+            var unchanged = new ArrayList<>(after);
+            diffs.stream().filter(diff -> diff.getNewValue() != null).map(PropertyDiffService.PropertyDiff::getPropertyPath)
+                    .map(path -> Integer.parseInt(path.substring(4, path.length() - 1)))
+                    .sorted(Collections.reverseOrder())
+                    .forEach(index -> unchanged.remove((int) index));
+            assertThat(lcs(before, unchanged)).as("diff of %s and %s", before, after).isEqualTo(unchanged.size());
+        }
+    }
+
+    private static List<String> randomSequence(Random random) {
+        var sequence = new ArrayList<String>();
+        for (var i = random.nextInt(12); i > 0; i--) {
+            sequence.add("v" + random.nextInt(5));
+        }
+        return sequence;
+    }
+
+    private static int lcs(List<String> a, List<String> b) {
+        var lengths = new int[a.size() + 1][b.size() + 1];
+        for (var i = 1; i <= a.size(); i++) {
+            for (var j = 1; j <= b.size(); j++) {
+                lengths[i][j] = a.get(i - 1).equals(b.get(j - 1)) ? lengths[i - 1][j - 1] + 1 : Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+            }
+        }
+        return lengths[a.size()][b.size()];
+    }
+
+    /**
+     * Reference: diff of the document trees.
+     */
+    private static List<PropertyDiffService.PropertyDiff> treeDiff(ObjectMapper mapper, byte[] before, byte[] after) throws IOException {
+        var beforeTree = mapper.readTree(before);
+        var afterTree = mapper.readTree(after);
+        return new PropertyDiffService(ObjectMappers.json(), TREE).diff(beforeTree, afterTree);
+    }
+
+    private static final List<String> KEYS = List.of("a", "b", "ab", "a-b", "b0", "c");
+
+    private static Object randomValue(Random random, int depth) {
+        var kind = random.nextInt(depth < 4 ? 8 : 5);
+        return switch (kind) {
+            case 0 -> null;
+            case 1 -> random.nextInt(5);
+            case 2 -> random.nextBoolean() ? "text" + random.nextInt(3) : random.nextInt(3) * 0.5;
+            case 3 -> random.nextBoolean();
+            case 4 -> String.valueOf(random.nextInt(5));
+            case 5, 6 -> {
+                var map = new LinkedHashMap<String, Object>();
+                var keys = new ArrayList<>(KEYS);
+                Collections.shuffle(keys, random);
+                for (var key : keys.subList(0, random.nextInt(KEYS.size()))) {
+                    map.put(key, randomValue(random, depth + 1));
+                }
+                yield map;
+            }
+            default -> {
+                var list = new ArrayList<>();
+                for (var i = random.nextInt(12); i > 0; i--) {
+                    list.add(randomValue(random, depth + 1));
+                }
+                yield list;
+            }
+        };
+    }
+
+    /**
+     * Copy of a value with random changes: replaced values, added and removed properties and elements, properties in a
+     * different order.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object mutate(Random random, Object value, int depth) {
+        if (random.nextInt(8) == 0) {
+            return randomValue(random, depth);
+        }
+        if (value instanceof Map<?, ?> map) {
+            var entries = new ArrayList<>(((Map<String, Object>) map).entrySet());
+            if (random.nextInt(3) == 0) {
+                Collections.shuffle(entries, random);
+            }
+            var result = new LinkedHashMap<String, Object>();
+            for (var entry : entries) {
+                if (random.nextInt(6) != 0) {
+                    result.put(entry.getKey(), mutate(random, entry.getValue(), depth + 1));
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                result.put(KEYS.get(random.nextInt(KEYS.size())), randomValue(random, depth + 1));
+            }
+            return result;
+        }
+        if (value instanceof List<?> list) {
+            var result = new ArrayList<>();
+            for (var element : list) {
+                if (random.nextInt(6) != 0) {
+                    result.add(mutate(random, element, depth + 1));
+                }
+            }
+            if (random.nextInt(4) == 0) {
+                result.add(random.nextInt(result.size() + 1), randomValue(random, depth + 1));
+            }
+            return result;
+        }
+        return value;
+    }
 }
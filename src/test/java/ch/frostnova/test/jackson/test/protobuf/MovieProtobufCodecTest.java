@@ -0,0 +1,105 @@
+package ch.frostnova.test.jackson.test.protobuf;
+
+import ch.frostnova.test.jackson.test.proto.MovieProtos;
+import ch.frostnova.test.jackson.test.util.domain.Actor;
+import ch.frostnova.test.jackson.test.util.domain.Genre;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufCodec;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufMapper;
+import ch.frostnova.test.jackson.test.util.serializer.MovieProtobufCodecSerializer;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnknownFieldSet;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Wire compatibility test for {@link MovieProtobufCodec} against the generated {@link MovieProtos.MovieMessage}.
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class MovieProtobufCodecTest {
+
+    private final MovieProtobufMapper mapper = MovieProtobufMapper.INSTANCE;
+    private final MovieProtobufCodecSerializer serializer = new MovieProtobufCodecSerializer();
+
+    @Test
+    void testSameBytesAsGeneratedCode() {
+        var movie = Movie.create();
+        movie.getActors().add(new Actor("Old", "Timer", LocalDate.of(812, 3, 4)));
+        movie.getActors().add(new Actor("Far", "Future", LocalDate.of(12345, 6, 7)));
+        movie.getActors().add(new Actor(null, "Anonymous", null));
+
+        var expected = mapper.toProto(movie).toByteArray();
+        assertThat(MovieProtobufCodec.computeSize(movie)).isEqualTo(expected.length);
+        assertThat(serializer.serialize(movie)).isEqualTo(expected);
+    }
+
+    @Test
+    void testReadGeneratedBytes() throws IOException {
+        var movie = Movie.create();
+        movie.getActors().add(new Actor("Old", "Timer", LocalDate.of(812, 3, 4)));
+        movie.getActors().add(new Actor("Far", "Future", LocalDate.of(12345, 6, 7)));
+        movie.getActors().add(new Actor(null, "Anonymous", null));
+        var serialized = mapper.toProto(movie).toByteArray();
+
+        assertEquivalent(serializer.deserialize(serialized), mapper.fromProto(MovieProtos.MovieMessage.parseFrom(serialized)));
+    }
+
+    @Test
+    void testReadDefaults() throws IOException {
+        var parsed = serializer.deserialize(new byte[0]);
+        assertEquivalent(parsed, mapper.fromProto(MovieProtos.MovieMessage.parseFrom(new byte[0])));
+        assertThat(parsed.getCreated()).isEqualTo(Instant.EPOCH);
+        assertThat(parsed.getTitle()).isNull();
+        assertThat(parsed.getAspectRatio()).isNull();
+        assertThat(parsed.getDuration()).isNull();
+        assertThat(parsed.getGenres()).isEmpty();
+    }
+
+    @Test
+    void testReadUnpackedGenresAndUnknownFields() throws IOException {
+        var byteOut = new ByteArrayOutputStream();
+        var codedOut = CodedOutputStream.newInstance(byteOut);
+        codedOut.writeString(2, "Unpacked");
+        codedOut.writeEnum(4, MovieProtos.GenreValue.COMEDY_VALUE);
+        codedOut.writeEnum(4, MovieProtos.GenreValue.FANTASY_VALUE);
+        codedOut.writeString(99, "unknown field");
+        codedOut.writeFixed32(100, 42);
+        codedOut.flush();
+        var serialized = byteOut.toByteArray();
+
+        var parsed = MovieProtobufCodec.read(CodedInputStream.newInstance(serialized));
+        assertEquivalent(parsed, mapper.fromProto(MovieProtos.MovieMessage.parseFrom(serialized)));
+        assertThat(MovieProtos.MovieMessage.parseFrom(serialized).getUnknownFields()).isNotEqualTo(UnknownFieldSet.getDefaultInstance());
+    }
+
+    @Test
+    void testGenreMapping() throws IOException {
+        for (var genre : Genre.values()) {
+            var value = mapper.toProtoGenre(genre);
+            assertThat(value.name()).isEqualTo(genre.name());
+            assertThat(mapper.fromProtoGenre(value)).isSameAs(genre);
+        }
+        assertThatThrownBy(() -> mapper.fromProtoGenre(MovieProtos.GenreValue.UNRECOGNIZED)).isInstanceOf(IllegalArgumentException.class);
+
+        var byteOut = new ByteArrayOutputStream();
+        var codedOut = CodedOutputStream.newInstance(byteOut);
+        codedOut.writeEnum(4, 42);
+        codedOut.flush();
+        assertThatThrownBy(() -> MovieProtobufCodec.read(CodedInputStream.newInstance(byteOut.toByteArray())))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Unknown genre number: 42");
+    }
+
+    private void assertEquivalent(Movie actual, Movie expected) {
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+}
@@ -0,0 +1,116 @@
+package ch.frostnova.test.jackson.test.stream;
+
+import ch.frostnova.test.jackson.test.proto.MovieProtos;
+import ch.frostnova.test.jackson.test.util.domain.Movie;
+import ch.frostnova.test.jackson.test.util.protobuf.MovieProtobufMapper;
+import ch.frostnova.test.jackson.test.util.stream.RecordStreams;
+import ch.frostnova.test.jackson.test.util.stream.RecordStreams.Format;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test for multi-record streams ({@link RecordStreams})
+ *
+ * @author pwalser
+ * @since 17.10.2026
+ */
+class RecordStreamsTest {
+
+    private static final int RECORDS = 1000;
+
+    @Test
+    void testNDJSON() {
+        var serialized = testRoundTrip(Format.NDJSON);
+        var text = new String(serialized, UTF_8);
+        assertThat(text).endsWith("\n");
+        assertThat(text.lines()).hasSize(RECORDS).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    }
+
+    @Test
+    void testCBOR() {
+        testRoundTrip(Format.CBOR);
+    }
+
+    @Test
+    void testYAML() {
+        var serialized = testRoundTrip(Format.YAML);
+        assertThat(new String(serialized, UTF_8).lines().filter("---"::equals)).hasSize(RECORDS);
+    }
+
+    @Test
+    void testProtobuf() throws IOException {
+        var serialized = testRoundTrip(Format.PROTOBUF);
+
+        // compatible with writeDelimitedTo/parseDelimitedFrom
+        var in = new ByteArrayInputStream(serialized);
+        var count = 0;
+        MovieProtos.MovieMessage message;
+        while ((message = MovieProtos.MovieMessage.parseDelimitedFrom(in)) != null) {
+            assertThat(message.getYear()).isEqualTo(1900 + count++);
+        }
+        assertThat(count).isEqualTo(RECORDS);
+
+        var byteOut = new ByteArrayOutputStream();
+        MovieProtobufMapper.INSTANCE.toProto(movie(1)).writeDelimitedTo(byteOut);
+        MovieProtobufMapper.INSTANCE.toProto(movie(2)).writeDelimitedTo(byteOut);
+        try (var reader = RecordStreams.reader(Format.PROTOBUF, Movie.class, new ByteArrayInputStream(byteOut.toByteArray()))) {
+            assertThat(reader.stream().map(Movie::getYear)).containsExactly(1901, 1902);
+        }
+    }
+
+    @Test
+    void testProtobufRequiresMovie() {
+        assertThatThrownBy(() -> RecordStreams.writer(Format.PROTOBUF, String.class, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testEmpty() {
+        for (var format : Format.values()) {
+            var byteOut = new ByteArrayOutputStream();
+            RecordStreams.writer(format, Movie.class, byteOut).close();
+            try (var reader = RecordStreams.reader(format, Movie.class, new ByteArrayInputStream(byteOut.toByteArray()))) {
+                assertThat(reader.hasNext()).as(format.name()).isFalse();
+            }
+        }
+    }
+
+    private byte[] testRoundTrip(Format format) {
+        var byteOut = new ByteArrayOutputStream();
+        try (var writer = RecordStreams.writer(format, Movie.class, byteOut)) {
+            writer.writeAll(IntStream.range(0, RECORDS).mapToObj(this::movie));
+        }
+        var serialized = byteOut.toByteArray();
+
+        var years = new ArrayList<Integer>();
+        try (var reader = RecordStreams.reader(format, Movie.class, new ByteArrayInputStream(serialized))) {
+            reader.stream().forEach(movie -> {
+                var expected = movie(years.size());
+                assertThat(movie.getTitle()).isEqualTo(expected.getTitle());
+                assertThat(movie.getGenres()).containsExactlyElementsOf(expected.getGenres());
+                assertThat(movie.getActors()).containsExactlyElementsOf(expected.getActors());
+                assertThat(movie.getMetadata().getKeys()).containsExactlyElementsOf(expected.getMetadata().getKeys());
+                years.add(movie.getYear());
+            });
+        }
+        assertThat(years).containsExactlyElementsOf(IntStream.range(0, RECORDS).map(i -> 1900 + i).boxed().toList());
+        System.out.printf("%s: %d records, %d bytes%n", format, RECORDS, serialized.length);
+        return serialized;
+    }
+
+    private Movie movie(int index) {
+        var movie = Movie.create();
+        movie.setTitle("Movie #" + index);
+        movie.setYear(1900 + index);
+        return movie;
+    }
+}